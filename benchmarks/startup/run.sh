@@ -0,0 +1,84 @@
+#!/bin/sh
+# 일반 이미지와 빠른 기동(FAST_START) 이미지의 콜드 스타트 시간을 같은 조건에서 반복 측정
+# 측정값: 컨테이너 시작부터 /actuator/health 200까지, 첫 로그인 200까지 걸린 시간(ms)
+# 필요: docker, curl (저장소 루트에서 이미지를 직접 빌드함)
+set -eu
+
+cd "$(dirname "$0")"
+ROOT=$(cd ../.. && pwd)
+RUNS=${RUNS:-5}
+CPUS=${CPUS:-1}
+MEMORY=${MEMORY:-1g}
+PORT=${PORT:-18080}
+NETWORK=llminsurance-startup-bench
+DB=llminsurance-startup-db
+APP=llminsurance-startup-app
+RESULTS=results
+CSV="$RESULTS/startup-$(date +%Y%m%d-%H%M%S).csv"
+mkdir -p "$RESULTS"
+
+now_ms() {
+    date +%s%3N
+}
+
+cleanup() {
+    docker rm -f "$APP" > /dev/null 2>&1 || true
+    docker rm -f "$DB" > /dev/null 2>&1 || true
+    docker network rm "$NETWORK" > /dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+echo "=== 이미지 빌드 ==="
+docker build -q -t llminsurance-backend:standard "$ROOT"
+docker build -q --build-arg FAST_START=true -t llminsurance-backend:fast-start "$ROOT"
+
+echo "=== PostgreSQL 시작 ==="
+docker network create "$NETWORK" > /dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+    -e POSTGRES_DB=llminsurance -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=password \
+    postgres:15-alpine > /dev/null
+until docker exec "$DB" pg_isready -U postgres -d llminsurance > /dev/null 2>&1; do sleep 1; done
+
+echo "variant,run,health_ms,first_login_ms" > "$CSV"
+
+# 한 번 기동하여 측정 (첫 기동에서 Flyway가 스키마를 만들고, 이후 기동은 적용할 마이그레이션이 없음)
+measure() {
+    variant=$1
+    profiles=$2
+    run=$3
+
+    started=$(now_ms)
+    docker run -d --name "$APP" --network "$NETWORK" -p "$PORT:8080" \
+        --cpus "$CPUS" --memory "$MEMORY" \
+        -e SPRING_PROFILES_ACTIVE="$profiles" \
+        -e DATABASE_URL="jdbc:postgresql://$DB:5432/llminsurance" \
+        -e DATABASE_USERNAME=postgres -e DATABASE_PASSWORD=password \
+        -e JWT_SECRET=startup-benchmark-secret-0123456789abcdef \
+        -e OPENAI_API_KEY=startup-benchmark \
+        "llminsurance-backend:$variant" > /dev/null
+
+    until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null 2>&1; do sleep 0.1; done
+    health=$(( $(now_ms) - started ))
+
+    # standard 실행마다 스키마가 다시 만들어지므로 매번 가입 (이미 있으면 400이어도 무시)
+    user="startup_$run"
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/api/v1/auth/signup" -H 'Content-Type: application/json' \
+        -d "{\"userId\":\"$user\",\"password\":\"startup1234\",\"email\":\"$user@example.com\",\"name\":\"기동측정\",\"phoneNumber\":\"010-0000-0000\",\"birthDate\":\"1990-01-01\",\"gender\":\"남\",\"isMarried\":false,\"job\":\"테스트\"}"
+    until curl -sf -o /dev/null -X POST "http://localhost:$PORT/api/v1/auth/login" -H 'Content-Type: application/json' \
+        -d "{\"userId\":\"$user\",\"password\":\"startup1234\"}"; do sleep 0.1; done
+    login=$(( $(now_ms) - started ))
+
+    echo "$variant,$run,$health,$login" | tee -a "$CSV"
+    docker logs "$APP" > "$RESULTS/$variant-$run.log" 2>&1
+    docker rm -f "$APP" > /dev/null
+}
+
+echo "=== 측정 (${RUNS}회, cpus=$CPUS, memory=$MEMORY) ==="
+i=1
+while [ "$i" -le "$RUNS" ]; do
+    measure standard prod "$i"
+    measure fast-start prod,fast-start "$i"
+    i=$((i + 1))
+done
+
+echo "결과: $(pwd)/$CSV"
@@ -0,0 +1,56 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 k6 부하 테스트
+// 사용법: k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 load-test.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 2000);
+const USERS = Number(__ENV.USERS || 50);
+const PASSWORD = 'loadtest1234';
+
+export const options = {
+    scenarios: {
+        // 프로필 조회(캐시)와 수정(DB 쓰기)을 섞어 블로킹 JDBC 호출이 있는 요청을 만든다
+        mixed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const jsonHeaders = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        const userId = `load_${i}`;
+        http.post(`${BASE_URL}/api/v1/auth/signup`, JSON.stringify({
+            userId, password: PASSWORD, email: `${userId}@example.com`, name: '부하테스트',
+            phoneNumber: '010-0000-0000', birthDate: '1990-01-01', gender: '남', isMarried: false, job: '테스트',
+        }), { headers: jsonHeaders });
+        const res = http.post(`${BASE_URL}/api/v1/auth/login`,
+            JSON.stringify({ userId, password: PASSWORD }), { headers: jsonHeaders });
+        tokens.push(res.json('accessToken'));
+    }
+    return { tokens };
+}
+
+export default function (data) {
+    const token = data.tokens[(__VU + __ITER) % data.tokens.length];
+    const headers = { ...jsonHeaders, Authorization: `Bearer ${token}` };
+
+    if (__ITER % 4 === 0) {
+        const res = http.put(`${BASE_URL}/api/v1/auth/profile`,
+            JSON.stringify({ job: `job-${__ITER % 100}` }), { headers, tags: { name: 'updateProfile' } });
+        check(res, { 'update 200 or 503': (r) => r.status === 200 || r.status === 503 });
+    } else {
+        const res = http.get(`${BASE_URL}/api/v1/auth/profile`, { headers, tags: { name: 'getProfile' } });
+        check(res, { 'profile 200': (r) => r.status === 200 });
+    }
+}
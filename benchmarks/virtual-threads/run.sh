@@ -0,0 +1,35 @@
+#!/bin/sh
+# 같은 조건에서 플랫폼 스레드 모드와 가상 스레드 모드를 차례로 실행하고 k6 결과를 저장
+# 필요: 빌드된 JAR (./gradlew bootJar), k6, 실행 중인 PostgreSQL (DATABASE_URL 등 환경 변수)
+set -eu
+
+cd "$(dirname "$0")"
+JAR=$(ls ../../build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)
+VUS=${VUS:-2000}
+PORT=${PORT:-8080}
+RESULTS=results
+mkdir -p "$RESULTS"
+
+run_mode() {
+    mode=$1
+    virtual=$2
+    echo "=== ${mode} (spring.threads.virtual.enabled=${virtual}) ==="
+    SPRING_PROFILES_ACTIVE=prod VIRTUAL_THREADS_ENABLED=$virtual PORT=$PORT \
+        java -jar "$JAR" > "$RESULTS/${mode}-app.log" 2>&1 &
+    app_pid=$!
+    trap 'kill $app_pid 2>/dev/null || true' EXIT
+
+    until curl -sf "http://localhost:${PORT}/actuator/health" > /dev/null; do sleep 1; done
+
+    k6 run -e BASE_URL="http://localhost:${PORT}" -e VUS="$VUS" \
+        --summary-export "$RESULTS/${mode}-summary.json" load-test.js | tee "$RESULTS/${mode}-k6.txt"
+
+    kill $app_pid
+    wait $app_pid 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo "결과: $(pwd)/$RESULTS"
@@ -0,0 +1,70 @@
+package com.example.LLMInsurance_Backend.benchmark;
+
+import com.example.LLMInsurance_Backend.global.config.JwtAuthenticationFilter;
+import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.global.utils.VerifiedToken;
+import com.example.LLMInsurance_Backend.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 인증 필터 한 번 통과 비용 (사용자 조회는 목으로 대체)
+ * 요청/응답 객체 생성 비용도 함께 측정된다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-only-0123456789";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 3_600_000L, 10_000L);
+        CustomUserDetailsService userDetailsService = mock(CustomUserDetailsService.class);
+        UserDetails userDetails = new User("benchmark_user", "", List.of());
+        when(userDetailsService.loadUserByVerifiedToken(any(VerifiedToken.class))).thenReturn(userDetails);
+
+        filter = new JwtAuthenticationFilter(jwtTokenUtil, userDetailsService, new SimpleMeterRegistry());
+        authorization = "Bearer " + jwtTokenUtil.generateToken("benchmark_user", false, 0);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/profile");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, NO_OP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.LLMInsurance_Backend.benchmark;
+
+import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.global.utils.VerifiedToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용 (검증 결과 캐시 사용 여부별)
+ * 인증 필터 경로는 변경 전(validateToken 후 getUserIdFromToken, 2회 파싱)과 변경 후(verifyToken 1회)를 같은 실행에서 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jmh-only-0123456789";
+
+    // cached: 같은 토큰 반복 검증 시 캐시 적중, uncached: 캐시 크기 0으로 매번 서명 검증
+    @Param({"cached", "uncached"})
+    public String cache;
+
+    private JwtTokenUtil jwtTokenUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = new JwtTokenUtil(SECRET, 3_600_000L, "cached".equals(cache) ? 10_000L : 0L);
+        token = jwtTokenUtil.generateToken("benchmark_user", false, 0);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken("benchmark_user", false, 0);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUserIdFromToken() {
+        return jwtTokenUtil.getUserIdFromToken(token);
+    }
+
+    // 변경 전 인증 필터 경로: 검증과 사용자 ID 추출에서 각각 파싱
+    @Benchmark
+    public String filterPathValidateThenGetUserId() {
+        return jwtTokenUtil.validateToken(token) ? jwtTokenUtil.getUserIdFromToken(token) : null;
+    }
+
+    // 현재 인증 필터 경로: 한 번 파싱한 결과를 사용
+    @Benchmark
+    public Optional<VerifiedToken> filterPathVerifyToken() {
+        return jwtTokenUtil.verifyToken(token);
+    }
+}
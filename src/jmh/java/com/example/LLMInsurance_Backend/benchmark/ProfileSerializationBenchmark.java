@@ -0,0 +1,73 @@
+package com.example.LLMInsurance_Backend.benchmark;
+
+import com.example.LLMInsurance_Backend.domain.dto.response.LoginResponseDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.ProfileResponseDto;
+import com.example.LLMInsurance_Backend.domain.entity.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로필 응답 변환 및 JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProfileSerializationBenchmark {
+
+    private User user;
+    private ProfileResponseDto profile;
+    private LoginResponseDto login;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 ObjectMapper와 같은 날짜 처리
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        user = User.builder()
+                .userId("benchmark_user")
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .email("benchmark@example.com")
+                .name("벤치마크")
+                .phoneNumber("010-1234-5678")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender("남")
+                .isMarried(true)
+                .job("회사원")
+                .diseases(new String[]{"고혈압", "당뇨"})
+                .subscriptions(new String[]{"실손보험", "암보험"})
+                .build();
+        profile = ProfileResponseDto.from(user);
+        login = LoginResponseDto.of("header.payload.signature", user.getUserId(), user.getEmail(), user.getName(),
+                user.getPhoneNumber(), user.getBirthDate(), user.getGender(), user.isMarried(), user.getJob(),
+                user.getDiseases(), user.getSubscriptions(), true);
+    }
+
+    @Benchmark
+    public ProfileResponseDto profileFromUser() {
+        return ProfileResponseDto.from(user);
+    }
+
+    @Benchmark
+    public byte[] serializeProfile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profile);
+    }
+
+    @Benchmark
+    public byte[] serializeLoginResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(login);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.LLMInsurance_Backend.benchmark;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+import com.example.LLMInsurance_Backend.domain.entity.User;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 비용: 엔티티 조회(변경 전) vs 컬럼 프로젝션 조회(변경 후), H2 메모리 DB
+ * 쿼리는 UserRepository의 @Query를 그대로 사용하고, 서비스와 같이 읽기 전용 세션에서 실행
+ * (읽기 전용 세션은 엔티티의 변경 감지 스냅샷을 만들지 않으므로 엔티티 쪽 비용이 덜 잡히는 보수적인 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserReadBenchmark {
+
+    private static final int USERS = 1000;
+    private static final String USER_ID = "benchmark_user_500";
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private String entityQuery;
+    private String snapshotQuery;
+    private String authQuery;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:user-read-benchmark;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .applySetting(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        entityQuery = repositoryQuery("findActiveByUserId");
+        snapshotQuery = repositoryQuery("findActiveSnapshotByUserId");
+        authQuery = repositoryQuery("findActiveAuthByUserId");
+
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < USERS; i++) {
+                session.persist(User.builder()
+                        .userId("benchmark_user_" + i)
+                        .password("$2a$10$abcdefghijklmnopqrstuv")
+                        .email("benchmark" + i + "@example.com")
+                        .name("벤치마크")
+                        .phoneNumber("010-1234-5678")
+                        .birthDate(LocalDate.of(1990, 1, 1))
+                        .gender("남")
+                        .isMarried(true)
+                        .job("회사원")
+                        .diseases(new String[]{"고혈압", "당뇨"})
+                        .subscriptions(new String[]{"실손보험", "암보험"})
+                        .build());
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    // 변경 전: 엔티티를 읽어 스냅샷으로 변환
+    @Benchmark
+    public UserSnapshot snapshotFromEntity() {
+        return readOnly(session -> UserSnapshot.from(session.createQuery(entityQuery, User.class)
+                .setParameter("userId", USER_ID)
+                .getSingleResult()));
+    }
+
+    // 변경 후: 스냅샷 컬럼만 생성자 표현식으로 조회
+    @Benchmark
+    public UserSnapshot snapshotProjection() {
+        return readOnly(session -> session.createQuery(snapshotQuery, UserSnapshot.class)
+                .setParameter("userId", USER_ID)
+                .getSingleResult());
+    }
+
+    // 변경 전: 토큰 버전 확인을 위해 엔티티 전체를 조회
+    @Benchmark
+    public int tokenVersionFromEntity() {
+        return readOnly(session -> session.createQuery(entityQuery, User.class)
+                .setParameter("userId", USER_ID)
+                .getSingleResult()
+                .getTokenVersion());
+    }
+
+    // 변경 후: 인증 컬럼만 조회
+    @Benchmark
+    public int tokenVersionProjection() {
+        return readOnly(session -> session.createQuery(authQuery, UserAuthProjection.class)
+                .setParameter("userId", USER_ID)
+                .getSingleResult()
+                .tokenVersion());
+    }
+
+    // @Transactional(readOnly = true)와 같은 세션 설정
+    private <T> T readOnly(Function<Session, T> action) {
+        return sessionFactory.fromTransaction(session -> {
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            return action.apply(session);
+        });
+    }
+
+    private static String repositoryQuery(String methodName) throws NoSuchMethodException {
+        return UserRepository.class.getMethod(methodName, String.class).getAnnotation(Query.class).value();
+    }
+}
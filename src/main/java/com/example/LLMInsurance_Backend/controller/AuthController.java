@@ -6,12 +6,16 @@ import com.example.LLMInsurance_Backend.domain.dto.request.SignupRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.LoginResponseDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.ProfileResponseDto;
 import com.example.LLMInsurance_Backend.service.UserService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+// 엔드포인트별 처리 시간 (auth.api{class, method}), 인증 필터 시간은 포함되지 않음
+@Timed(value = "auth.api", histogram = true)
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
@@ -23,8 +27,10 @@ public class AuthController {
      * 사용자 로그인
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequestDto) {
-        LoginResponseDto response = userService.login(loginRequestDto);
+    public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequestDto,
+                                                  HttpServletRequest request) {
+        // prod 프로필은 forward-headers-strategy: native이므로 프록시가 아닌 실제 클라이언트 IP
+        LoginResponseDto response = userService.login(loginRequestDto, request.getRemoteAddr());
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,44 @@
+package com.example.LLMInsurance_Backend.controller;
+
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionChunk;
+import com.example.LLMInsurance_Backend.service.RecommendationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/recommendations")
+@RequiredArgsConstructor
+public class RecommendationController {
+
+    private final RecommendationService recommendationService;
+
+    /**
+     * 보험 추천 (Server-Sent Events)
+     * token 이벤트로 생성된 문장 조각을 바로 전달하고, 끝나면 done, 실패하면 error 이벤트를 보냄
+     * 이벤트는 클라이언트로 전송된 뒤에 다음 조각을 요청하므로 연결별로 응답 전체를 모아두지 않는다
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamRecommendation(Authentication authentication) {
+        String userId = authentication.getName();
+        return recommendationService.streamRecommendation(userId)
+                .map(ChatCompletionChunk::contentDelta)
+                .filter(delta -> !delta.isEmpty())
+                .map(delta -> ServerSentEvent.builder(delta).event("token").build())
+                .concatWith(Mono.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> {
+                    log.warn("사용자 {}의 추천 스트림 실패: {}", userId, e.getMessage());
+                    return Mono.just(ServerSentEvent.builder("추천을 생성하지 못했습니다. 잠시 후 다시 시도해주세요.")
+                            .event("error")
+                            .build());
+                });
+    }
+}
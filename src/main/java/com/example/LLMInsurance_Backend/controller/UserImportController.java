@@ -0,0 +1,60 @@
+package com.example.LLMInsurance_Backend.controller;
+
+import com.example.LLMInsurance_Backend.domain.dto.response.UserImportJobResponseDto;
+import com.example.LLMInsurance_Backend.service.UserImportJobService;
+import com.example.LLMInsurance_Backend.service.UserImportService;
+import com.example.LLMInsurance_Backend.service.UserImportService.ImportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class UserImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final UserImportService userImportService;
+    private final UserImportJobService userImportJobService;
+
+    /**
+     * 사용자 대량 가입 작업 등록 (요청 본문을 NDJSON 또는 CSV로 스트리밍 업로드)
+     * 업로드를 받으면 바로 202를 응답하고, 진행 상황과 결과는 Location의 작업 조회로 확인
+     */
+    @PostMapping(value = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<UserImportJobResponseDto> importUsers(
+            Authentication authentication,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        userImportService.checkPermission(authentication.getName());
+        ImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(CSV))
+                ? ImportFormat.CSV
+                : ImportFormat.NDJSON;
+        UserImportJobResponseDto response = userImportJobService.submit(body, format, authentication.getName());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/admin/users/import/" + response.getJobId()))
+                .body(response);
+    }
+
+    /**
+     * 사용자 대량 가입 작업 상태와 결과 조회
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<UserImportJobResponseDto> getImportJob(
+            Authentication authentication,
+            @PathVariable UUID jobId) {
+        userImportService.checkPermission(authentication.getName());
+        return userImportJobService.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.LLMInsurance_Backend.controller;
+
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.UserSearchResponseDto;
+import com.example.LLMInsurance_Backend.service.UserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+public class UserSearchController {
+
+    private final UserService userService;
+
+    /**
+     * 질병/가입 상품 조건으로 사용자 검색 (언더라이팅용)
+     * 배열 조건은 같은 파라미터를 반복하거나 쉼표로 구분 (예: diseasesAll=당뇨&diseasesAll=고혈압)
+     * 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     */
+    @GetMapping("/search")
+    public ResponseEntity<UserSearchResponseDto> searchUsers(
+            Authentication authentication,
+            @Valid @ModelAttribute UserSearchRequestDto userSearchRequestDto) {
+        userService.checkSearchPermission(authentication.getName());
+        return ResponseEntity.ok(userService.searchUsers(userSearchRequestDto));
+    }
+}
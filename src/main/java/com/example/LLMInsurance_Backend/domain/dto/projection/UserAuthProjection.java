@@ -0,0 +1,9 @@
+package com.example.LLMInsurance_Backend.domain.dto.projection;
+
+/**
+ * 인증 확인에 필요한 컬럼만 담는 프로젝션 (삭제되지 않은 사용자만 조회)
+ */
+public record UserAuthProjection(String userId,
+                                 String password,
+                                 int tokenVersion) {
+}
@@ -0,0 +1,27 @@
+package com.example.LLMInsurance_Backend.domain.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 로그인에 필요한 컬럼을 한 번에 읽는 프로젝션 (사용자 스냅샷 + 현재 토큰 버전)
+ * 삭제되지 않은 사용자만 조회하므로 삭제 여부는 담지 않음
+ */
+public record UserLoginProjection(String userId,
+                                  String password,
+                                  String email,
+                                  String name,
+                                  String phoneNumber,
+                                  LocalDate birthDate,
+                                  String gender,
+                                  boolean married,
+                                  String job,
+                                  String[] diseases,
+                                  String[] subscriptions,
+                                  boolean login,
+                                  int tokenVersion) {
+
+    public UserSnapshot toSnapshot() {
+        return new UserSnapshot(userId, password, email, name, phoneNumber, birthDate, gender,
+                married, job, diseases, subscriptions, login);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.LLMInsurance_Backend.domain.dto.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 프로필 조회에 필요한 컬럼만 담는 프로젝션
+ */
+public record UserProfileProjection(String userId,
+                                    String email,
+                                    String name,
+                                    String phoneNumber,
+                                    LocalDate birthDate,
+                                    String gender,
+                                    boolean married,
+                                    String job,
+                                    String[] diseases,
+                                    String[] subscriptions,
+                                    boolean login,
+                                    boolean deleted) {
+
+    public UserProfileProjection withLogin(boolean login) {
+        return new UserProfileProjection(userId, email, name, phoneNumber, birthDate, gender,
+                married, job, diseases, subscriptions, login, deleted);
+    }
+}
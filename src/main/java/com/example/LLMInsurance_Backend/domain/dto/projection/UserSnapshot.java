@@ -0,0 +1,66 @@
+package com.example.LLMInsurance_Backend.domain.dto.projection;
+
+import com.example.LLMInsurance_Backend.domain.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 캐시(UserSnapshotCache)에 보관하는 프로젝션 (영속성 컨텍스트와 분리된 불변 스냅샷)
+ * 삭제되지 않은 사용자만 조회하므로 삭제 여부는 담지 않음
+ * 토큰 버전은 인스턴스 간에 바로 맞아야 하므로 담지 않고 TokenVersionRegistry에서 DB 값을 읽음
+ */
+public record UserSnapshot(String userId,
+                           String password,
+                           String email,
+                           String name,
+                           String phoneNumber,
+                           LocalDate birthDate,
+                           String gender,
+                           boolean married,
+                           String job,
+                           String[] diseases,
+                           String[] subscriptions,
+                           boolean login) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getUserId(),
+                user.getPassword(),
+                user.getEmail(),
+                user.getName(),
+                user.getPhoneNumber(),
+                user.getBirthDate(),
+                user.getGender(),
+                user.isMarried(),
+                user.getJob(),
+                copyOf(user.getDiseases()),
+                copyOf(user.getSubscriptions()),
+                user.isLogin()
+        );
+    }
+
+    // 캐시에 보관된 배열이 호출자에 의해 바뀌지 않도록 복사본을 반환
+    @Override
+    public String[] diseases() {
+        return copyOf(diseases);
+    }
+
+    @Override
+    public String[] subscriptions() {
+        return copyOf(subscriptions);
+    }
+
+    public UserSnapshot withLogin(boolean login) {
+        return new UserSnapshot(userId, password, email, name, phoneNumber, birthDate, gender,
+                married, job, diseases, subscriptions, login);
+    }
+
+    public UserSnapshot withPassword(String password) {
+        return new UserSnapshot(userId, password, email, name, phoneNumber, birthDate, gender,
+                married, job, diseases, subscriptions, login);
+    }
+
+    private static String[] copyOf(String[] values) {
+        return values != null ? values.clone() : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.LLMInsurance_Backend.domain.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 질병/가입 상품 조건으로 사용자 검색 (비어 있는 조건은 무시)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchRequestDto {
+
+    // 모두 가진 사용자 (diseases @> ?)
+    private String[] diseasesAll;
+
+    // 하나라도 가진 사용자 (diseases && ?)
+    private String[] diseasesAny;
+
+    // 모두 가입한 사용자 (subscriptions @> ?)
+    private String[] subscriptionsAll;
+
+    // 하나도 가입하지 않은 사용자 (NOT subscriptions && ?)
+    private String[] subscriptionsNone;
+
+    // 이전 페이지의 nextCursor (이 userId 이후부터 조회)
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+    private Integer size;
+}
@@ -1,5 +1,7 @@
 package com.example.LLMInsurance_Backend.domain.dto.response;
 
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
 import com.example.LLMInsurance_Backend.domain.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -40,4 +42,36 @@ public class ProfileResponseDto {
                 .isLogin(user.isLogin())
                 .build();
     }
-} 
\ No newline at end of file
+
+    public static ProfileResponseDto from(UserSnapshot user) {
+        return ProfileResponseDto.builder()
+                .userId(user.userId())
+                .email(user.email())
+                .name(user.name())
+                .phoneNumber(user.phoneNumber())
+                .birthDate(user.birthDate())
+                .gender(user.gender())
+                .isMarried(user.married())
+                .job(user.job())
+                .diseases(user.diseases())
+                .subscriptions(user.subscriptions())
+                .isLogin(user.login())
+                .build();
+    }
+
+    public static ProfileResponseDto from(UserProfileProjection user) {
+        return ProfileResponseDto.builder()
+                .userId(user.userId())
+                .email(user.email())
+                .name(user.name())
+                .phoneNumber(user.phoneNumber())
+                .birthDate(user.birthDate())
+                .gender(user.gender())
+                .isMarried(user.married())
+                .job(user.job())
+                .diseases(user.diseases())
+                .subscriptions(user.subscriptions())
+                .isLogin(user.login())
+                .build();
+    }
+}
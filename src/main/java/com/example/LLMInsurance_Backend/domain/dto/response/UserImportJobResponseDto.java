@@ -0,0 +1,29 @@
+package com.example.LLMInsurance_Backend.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+import java.util.UUID;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportJobResponseDto {
+    private UUID jobId;
+
+    // PENDING, RUNNING, COMPLETED, FAILED
+    private String status;
+
+    // 진행 중에는 처리한 행 수만, 끝나면 오류 목록까지 포함
+    private UserImportResponseDto result;
+
+    // 작업 전체가 실패한 경우의 사유
+    private String failureMessage;
+
+    private Date createdAt;
+    private Date finishedAt;
+}
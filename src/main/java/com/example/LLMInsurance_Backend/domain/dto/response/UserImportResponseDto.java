@@ -0,0 +1,31 @@
+package com.example.LLMInsurance_Backend.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponseDto {
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<RowError> errors;
+
+    // 오류 행이 너무 많아 일부만 포함된 경우 true
+    private boolean errorsTruncated;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String userId;
+        private String message;
+    }
+}
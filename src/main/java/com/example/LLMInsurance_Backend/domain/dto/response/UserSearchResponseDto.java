@@ -0,0 +1,19 @@
+package com.example.LLMInsurance_Backend.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchResponseDto {
+    private List<ProfileResponseDto> users;
+
+    // 다음 페이지 조회용 커서, 마지막 페이지면 null
+    private String nextCursor;
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.util.Date;
@@ -49,9 +51,12 @@ public class User {
     @Column(name = "job", nullable = false)
     private String job;
 
+    // PostgreSQL에서는 text[] 컬럼 + GIN 인덱스 (db/migration/postgresql/V1__create_app_users.sql)
+    @JdbcTypeCode(SqlTypes.ARRAY)
     @Column(name = "diseases")
     private String[] diseases;
 
+    @JdbcTypeCode(SqlTypes.ARRAY)
     @Column(name = "subscriptions")
     private String[] subscriptions;
 
@@ -68,4 +73,12 @@ public class User {
 
     @Column(name = "isDeleted", nullable = false) @ColumnDefault("false")
     private boolean isDeleted;
+
+    // 삭제 시각 (보관 테이블 이동 기준, PostgreSQL에서는 is_deleted가 true로 바뀔 때 트리거가 기록하고 복구하면 지움)
+    @Column(name = "deletedAt")
+    private Date deletedAt;
+
+    // 발급된 토큰 폐기용 버전 (로그아웃 시 증가)
+    @Column(name = "tokenVersion", nullable = false) @ColumnDefault("0")
+    private int tokenVersion;
 }
@@ -0,0 +1,67 @@
+package com.example.LLMInsurance_Backend.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * 사용자 대량 가입 작업 (진행 상황과 결과 보고서)
+ * 작업은 업로드를 받은 인스턴스에서 실행되지만, 상태는 DB에 있으므로 어느 인스턴스에서나 조회할 수 있다
+ */
+@Entity
+@Getter @Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "user_import_jobs")
+public class UserImportJob {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "requestedBy", nullable = false)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private Status status;
+
+    @Column(name = "totalRows", nullable = false)
+    private long totalRows;
+
+    @Column(name = "importedCount", nullable = false)
+    private long importedCount;
+
+    @Column(name = "failedCount", nullable = false)
+    private long failedCount;
+
+    // 행 단위 오류 목록 (JSON, 작업이 끝난 뒤 기록)
+    @Column(name = "errors", columnDefinition = "text")
+    private String errors;
+
+    @Column(name = "errorsTruncated", nullable = false)
+    private boolean errorsTruncated;
+
+    // 작업 전체가 실패한 경우의 사유
+    @Column(name = "failureMessage")
+    private String failureMessage;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", nullable = false)
+    private Date createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "modifiedAt", nullable = false)
+    private Date modifiedAt;
+
+    @Column(name = "finishedAt")
+    private Date finishedAt;
+}
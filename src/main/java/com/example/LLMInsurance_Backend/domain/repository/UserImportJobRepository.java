@@ -0,0 +1,54 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.entity.UserImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface UserImportJobRepository extends JpaRepository<UserImportJob, UUID> {
+
+    // chunk마다 진행 상황 기록 (끝난 작업은 변경하지 않음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update UserImportJob j set j.status = :status, j.totalRows = :totalRows, "
+            + "j.importedCount = :importedCount, j.failedCount = :failedCount, j.modifiedAt = CURRENT_TIMESTAMP "
+            + "where j.id = :id and j.finishedAt is null")
+    int updateProgress(@Param("id") UUID id,
+                       @Param("status") UserImportJob.Status status,
+                       @Param("totalRows") long totalRows,
+                       @Param("importedCount") long importedCount,
+                       @Param("failedCount") long failedCount);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update UserImportJob j set j.status = :status, j.totalRows = :totalRows, "
+            + "j.importedCount = :importedCount, j.failedCount = :failedCount, j.errors = :errors, "
+            + "j.errorsTruncated = :errorsTruncated, j.failureMessage = :failureMessage, "
+            + "j.modifiedAt = CURRENT_TIMESTAMP, j.finishedAt = CURRENT_TIMESTAMP "
+            + "where j.id = :id and j.finishedAt is null")
+    int finish(@Param("id") UUID id,
+               @Param("status") UserImportJob.Status status,
+               @Param("totalRows") long totalRows,
+               @Param("importedCount") long importedCount,
+               @Param("failedCount") long failedCount,
+               @Param("errors") String errors,
+               @Param("errorsTruncated") boolean errorsTruncated,
+               @Param("failureMessage") String failureMessage);
+
+    // 종료 시 끝나지 않은 작업을 실패로 기록 (진행 상황은 유지)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update UserImportJob j set j.status = :status, j.failureMessage = :failureMessage, "
+            + "j.modifiedAt = CURRENT_TIMESTAMP, j.finishedAt = CURRENT_TIMESTAMP "
+            + "where j.id in :ids and j.finishedAt is null")
+    int finishUnfinished(@Param("ids") Collection<UUID> ids,
+                         @Param("status") UserImportJob.Status status,
+                         @Param("failureMessage") String failureMessage);
+}
@@ -1,14 +1,70 @@
 package com.example.LLMInsurance_Backend.domain.repository;
 
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserLoginProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
 import com.example.LLMInsurance_Backend.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByUserId(String userId);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
+    // findActive* 조회는 삭제된 사용자를 SQL에서 걸러내므로 결과가 없으면 "없거나 삭제된 사용자"
+    @Query("select u from User u where u.userId = :userId and u.isDeleted = false")
+    Optional<User> findActiveByUserId(@Param("userId") String userId);
+
+    // 가입 중복 확인용이므로 삭제된 사용자의 ID도 포함
+    // existsBy 쿼리는 식별자만 조회하므로 별도 존재 여부 프로젝션이 필요 없음
     boolean existsByUserId(String userId);
+
+    // 대량 가입 시 여러 ID의 중복 여부를 한 번에 확인 (삭제된 사용자 포함)
+    @Query("select u.userId from User u where u.userId in :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
+    // 아래 프로젝션 조회는 엔티티를 만들지 않으므로 영속성 컨텍스트와 변경 감지를 거치지 않음
+    @Query("select new com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection("
+            + "u.userId, u.email, u.name, u.phoneNumber, u.birthDate, u.gender, u.isMarried, u.job, "
+            + "u.diseases, u.subscriptions, u.isLogin, u.isDeleted) "
+            + "from User u where u.userId = :userId and u.isDeleted = false")
+    Optional<UserProfileProjection> findActiveProfileByUserId(@Param("userId") String userId);
+
+    // 조회 컬럼이 모두 커버링 인덱스(ux_app_users_user_id_auth)에 있어 테이블을 읽지 않음
+    @Query("select new com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection("
+            + "u.userId, u.password, u.tokenVersion) "
+            + "from User u where u.userId = :userId and u.isDeleted = false")
+    Optional<UserAuthProjection> findActiveAuthByUserId(@Param("userId") String userId);
+
+    @Query("select new com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot("
+            + "u.userId, u.password, u.email, u.name, u.phoneNumber, u.birthDate, u.gender, u.isMarried, u.job, "
+            + "u.diseases, u.subscriptions, u.isLogin) "
+            + "from User u where u.userId = :userId and u.isDeleted = false")
+    Optional<UserSnapshot> findActiveSnapshotByUserId(@Param("userId") String userId);
+
+    // 로그인은 비밀번호와 토큰 버전을 함께 읽어 한 번의 조회로 처리
+    @Query("select new com.example.LLMInsurance_Backend.domain.dto.projection.UserLoginProjection("
+            + "u.userId, u.password, u.email, u.name, u.phoneNumber, u.birthDate, u.gender, u.isMarried, u.job, "
+            + "u.diseases, u.subscriptions, u.isLogin, u.tokenVersion) "
+            + "from User u where u.userId = :userId and u.isDeleted = false")
+    Optional<UserLoginProjection> findActiveLoginByUserId(@Param("userId") String userId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :password where u.userId = :userId and u.isDeleted = false")
+    int updatePassword(@Param("userId") String userId, @Param("password") String password);
+
+    // 로그아웃 시 기존 토큰을 모두 폐기 (다른 인스턴스도 바로 읽을 수 있도록 모아서 반영하지 않음)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.tokenVersion = u.tokenVersion + 1 where u.userId = :userId and u.isDeleted = false")
+    int incrementTokenVersion(@Param("userId") String userId);
 }
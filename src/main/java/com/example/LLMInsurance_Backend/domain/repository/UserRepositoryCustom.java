@@ -0,0 +1,26 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.request.ProfileUpdateRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 메서드로 표현하기 어려운 사용자 쿼리 (JDBC 직접 사용)
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * null이 아닌 필드만 한 번의 UPDATE로 수정하고 수정된 프로필을 반환
+     * 삭제되었거나 없는 사용자면 빈 값을 반환
+     */
+    Optional<UserProfileProjection> updateProfile(String userId, ProfileUpdateRequestDto profileUpdateRequestDto);
+
+    /**
+     * 질병/가입 상품 배열 조건으로 삭제되지 않은 사용자를 userId 순으로 조회 (키셋 페이지네이션)
+     * PostgreSQL은 배열 연산자와 GIN 인덱스를, 그 외 DB(H2 등)는 ARRAY_CONTAINS로 같은 조건을 사용
+     */
+    List<UserProfileProjection> searchByArrayConditions(UserSearchRequestDto condition, int limit);
+}
@@ -0,0 +1,189 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.request.ProfileUpdateRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String PROFILE_COLUMNS =
+            "user_id, email, name, phone_number, birth_date, gender, is_married, job, "
+                    + "diseases, subscriptions, is_login, is_deleted";
+
+    private static final String SELECT_ACTIVE_PROFILE_SQL =
+            "SELECT " + PROFILE_COLUMNS + " FROM app_users WHERE user_id = ? AND is_deleted = false";
+
+    static final RowMapper<UserProfileProjection> PROFILE_ROW_MAPPER = (rs, rowNum) -> new UserProfileProjection(
+            rs.getString("user_id"),
+            rs.getString("email"),
+            rs.getString("name"),
+            rs.getString("phone_number"),
+            rs.getObject("birth_date", LocalDate.class),
+            rs.getString("gender"),
+            rs.getBoolean("is_married"),
+            rs.getString("job"),
+            toStringArray(rs, "diseases"),
+            toStringArray(rs, "subscriptions"),
+            rs.getBoolean("is_login"),
+            rs.getBoolean("is_deleted")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // PostgreSQL 여부 (RETURNING, 배열 연산자 사용 가능 여부, 최초 사용 시 확인)
+    private volatile Boolean postgreSql;
+
+    @Override
+    @Transactional
+    public Optional<UserProfileProjection> updateProfile(String userId, ProfileUpdateRequestDto dto) {
+        List<String> assignments = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        addAssignment(assignments, values, "email", dto.getEmail());
+        addAssignment(assignments, values, "name", dto.getName());
+        addAssignment(assignments, values, "phone_number", dto.getPhoneNumber());
+        addAssignment(assignments, values, "birth_date", dto.getBirthDate());
+        addAssignment(assignments, values, "gender", dto.getGender());
+        addAssignment(assignments, values, "is_married", dto.getIsMarried());
+        addAssignment(assignments, values, "job", dto.getJob());
+        addAssignment(assignments, values, "diseases", dto.getDiseases());
+        addAssignment(assignments, values, "subscriptions", dto.getSubscriptions());
+
+        // 변경할 필드가 없으면 현재 프로필만 조회
+        if (assignments.isEmpty()) {
+            return jdbcTemplate.query(SELECT_ACTIVE_PROFILE_SQL, PROFILE_ROW_MAPPER, userId).stream().findFirst();
+        }
+
+        assignments.add("modified_at = CURRENT_TIMESTAMP");
+        values.add(userId);
+        String updateSql = "UPDATE app_users SET " + String.join(", ", assignments)
+                + " WHERE user_id = ? AND is_deleted = false";
+
+        if (isPostgreSql()) {
+            return jdbcTemplate.query(
+                    connection -> prepare(connection, updateSql + " RETURNING " + PROFILE_COLUMNS, values),
+                    PROFILE_ROW_MAPPER).stream().findFirst();
+        }
+
+        // RETURNING을 지원하지 않는 DB(H2 등)는 같은 트랜잭션에서 다시 조회
+        int updated = jdbcTemplate.update(connection -> prepare(connection, updateSql, values));
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.query(SELECT_ACTIVE_PROFILE_SQL, PROFILE_ROW_MAPPER, userId).stream().findFirst();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileProjection> searchByArrayConditions(UserSearchRequestDto condition, int limit) {
+        List<String> predicates = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        predicates.add("is_deleted = false");
+        if (isPostgreSql()) {
+            // 포함/겹침 조건은 GIN 인덱스(array_ops)로 처리됨
+            addArrayPredicate(predicates, values, "diseases @> ?::text[]", condition.getDiseasesAll());
+            addArrayPredicate(predicates, values, "diseases && ?::text[]", condition.getDiseasesAny());
+            addArrayPredicate(predicates, values, "subscriptions @> ?::text[]", condition.getSubscriptionsAll());
+            // 가입 상품이 없는(null) 사용자도 "가입하지 않음"에 포함
+            addArrayPredicate(predicates, values,
+                    "NOT (COALESCE(subscriptions, '{}'::text[]) && ?::text[])", condition.getSubscriptionsNone());
+        } else {
+            // 배열 연산자가 없는 DB(H2 등)는 원소마다 ARRAY_CONTAINS로 같은 조건을 만듦 (개발/테스트용, 인덱스 미사용)
+            addElementPredicate(predicates, values, "diseases", condition.getDiseasesAll(), " AND ", false);
+            addElementPredicate(predicates, values, "diseases", condition.getDiseasesAny(), " OR ", false);
+            addElementPredicate(predicates, values, "subscriptions", condition.getSubscriptionsAll(), " AND ", false);
+            addElementPredicate(predicates, values, "subscriptions", condition.getSubscriptionsNone(), " OR ", true);
+        }
+        if (condition.getCursor() != null) {
+            predicates.add("user_id > ?");
+            values.add(condition.getCursor());
+        }
+        values.add(limit);
+
+        String sql = "SELECT " + PROFILE_COLUMNS + " FROM app_users WHERE " + String.join(" AND ", predicates)
+                + " ORDER BY user_id LIMIT ?";
+        return jdbcTemplate.query(connection -> prepare(connection, sql, values), PROFILE_ROW_MAPPER);
+    }
+
+    private static void addArrayPredicate(List<String> predicates, List<Object> values, String predicate, String[] value) {
+        if (value != null && value.length > 0) {
+            predicates.add(predicate);
+            values.add(value);
+        }
+    }
+
+    // 배열이 null이면 ARRAY_CONTAINS도 null이므로 false로 바꿔 PostgreSQL 조건과 결과를 맞춤
+    private static void addElementPredicate(List<String> predicates, List<Object> values, String column,
+                                            String[] value, String joiner, boolean negate) {
+        if (value == null || value.length == 0) {
+            return;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String element : value) {
+            terms.add("COALESCE(ARRAY_CONTAINS(" + column + ", ?), false)");
+            values.add(element);
+        }
+        String predicate = "(" + String.join(joiner, terms) + ")";
+        predicates.add(negate ? "NOT " + predicate : predicate);
+    }
+
+    private static void addAssignment(List<String> assignments, List<Object> values, String column, Object value) {
+        if (value != null) {
+            assignments.add(column + " = ?");
+            values.add(value);
+        }
+    }
+
+    private static PreparedStatement prepare(Connection connection, String sql, List<Object> values) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value instanceof String[] array) {
+                statement.setArray(i + 1, connection.createArrayOf("text", array));
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+        return statement;
+    }
+
+    private boolean isPostgreSql() {
+        Boolean supported = postgreSql;
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql"));
+            postgreSql = supported;
+        }
+        return Boolean.TRUE.equals(supported);
+    }
+
+    static String[] toStringArray(ResultSet rs, String column) throws SQLException {
+        Array array = rs.getArray(column);
+        if (array == null) {
+            return null;
+        }
+        Object raw = array.getArray();
+        if (raw instanceof String[] strings) {
+            return strings;
+        }
+        return Arrays.stream((Object[]) raw)
+                .map(value -> value != null ? value.toString() : null)
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.example.LLMInsurance_Backend.global.exception.LoginBlockedException;
+import com.example.LLMInsurance_Backend.global.utils.DecayingCountMinSketch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 ID / 클라이언트 IP별 로그인 실패 횟수 추적
+ * 실패가 기준을 넘으면 DB 조회나 BCrypt 검증 전에 지수적으로 늘어나는 시간 동안 로그인을 거절한다
+ * 실패 횟수는 반감기에 따라 자연히 줄어들며, 키 개수와 무관하게 고정된 메모리만 사용한다
+ */
+@Slf4j
+@Component
+public class LoginAttemptTracker {
+
+    // 사용자 ID와 IP는 슬롯을 공유하지 않도록 따로 기록 (사용자 기록 초기화가 IP 기록에 영향을 주지 않음)
+    private final DecayingCountMinSketch userFailures;
+    private final DecayingCountMinSketch ipFailures;
+    private final int userThreshold;
+    private final int ipThreshold;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final Counter blockedCounter;
+
+    public LoginAttemptTracker(MeterRegistry meterRegistry,
+                               @Value("${login-attempt.user-threshold:5}") int userThreshold,
+                               @Value("${login-attempt.ip-threshold:50}") int ipThreshold,
+                               @Value("${login-attempt.base-backoff-seconds:1}") long baseBackoffSeconds,
+                               @Value("${login-attempt.max-backoff-seconds:900}") long maxBackoffSeconds,
+                               @Value("${login-attempt.half-life-seconds:900}") long halfLifeSeconds,
+                               @Value("${login-attempt.sketch-width:65536}") int sketchWidth) {
+        this.userFailures = new DecayingCountMinSketch(sketchWidth, 2, halfLifeSeconds);
+        this.ipFailures = new DecayingCountMinSketch(sketchWidth, 2, halfLifeSeconds);
+        this.userThreshold = userThreshold;
+        this.ipThreshold = ipThreshold;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.blockedCounter = Counter.builder("login.attempts.blocked")
+                .description("실패 누적으로 검증 없이 거절된 로그인 시도 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인, 대기 시간이 남아 있으면 LoginBlockedException
+     */
+    public void checkAllowed(String userId, String clientIp) {
+        long retryAfter = Math.max(
+                retryAfterSeconds(userFailures, userId, userThreshold),
+                retryAfterSeconds(ipFailures, clientIp, ipThreshold));
+        if (retryAfter > 0) {
+            blockedCounter.increment();
+            throw new LoginBlockedException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfter);
+        }
+    }
+
+    public void recordFailure(String userId, String clientIp) {
+        long userFailureCount = userFailures.increment(userId).count();
+        ipFailures.increment(clientIp);
+        if (userFailureCount == userThreshold) {
+            log.warn("로그인 실패 누적으로 일시 차단: userId={}, ip={}", userId, clientIp);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 사용자 기준 실패 기록만 초기화
+     * IP 기준 기록은 유지하여, 공격자가 자기 계정 로그인으로 IP 차단을 풀 수 없게 함
+     */
+    public void recordSuccess(String userId) {
+        userFailures.reset(userId);
+    }
+
+    // 기준 이후 실패 한 번마다 대기 시간 2배 (최대 maxBackoffSeconds)
+    private long retryAfterSeconds(DecayingCountMinSketch failures, String key, int threshold) {
+        DecayingCountMinSketch.Estimate estimate = failures.estimate(key);
+        if (estimate.count() < threshold) {
+            return 0;
+        }
+        int exponent = (int) Math.min(estimate.count() - threshold, 30);
+        long backoff = Math.min(baseBackoffSeconds << exponent, maxBackoffSeconds);
+        return estimate.lastUpdatedSecond() + backoff - failures.nowSeconds();
+    }
+}
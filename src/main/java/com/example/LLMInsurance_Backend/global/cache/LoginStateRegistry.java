@@ -0,0 +1,134 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 로그인 상태를 메모리에서 관리하고, DB에는 주기적으로 모아서 반영
+ * 같은 사용자의 변경은 마지막 상태만 기록된다 (last-write-wins)
+ */
+@Slf4j
+@Component
+public class LoginStateRegistry {
+
+    private static final String UPDATE_SQL =
+            "UPDATE app_users SET is_login = ? WHERE user_id = ? AND is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    // 조회용 로그인 상태 (DB 반영 이후에도 일정 시간 유지)
+    private final Cache<String, Boolean> loginStates;
+
+    // 아직 DB에 반영되지 않은 변경
+    private final Map<String, Boolean> pendingWrites = new ConcurrentHashMap<>();
+
+    // 반영 작업은 한 번에 하나만 실행
+    // synchronized는 가상 스레드에서 JDBC 대기 동안 캐리어 스레드를 점유하므로 ReentrantLock 사용
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LoginStateRegistry(JdbcTemplate jdbcTemplate,
+                              @Value("${login-state.batch-size:500}") int batchSize,
+                              @Value("${login-state.max-size:100000}") long maxSize,
+                              @Value("${login-state.ttl-seconds:600}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.loginStates = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * 로그인 상태로 변경
+     */
+    public void markLoggedIn(String userId) {
+        update(userId, true);
+    }
+
+    /**
+     * 로그아웃 상태로 변경 (토큰 폐기는 UserRepository.incrementTokenVersion에서 바로 반영)
+     */
+    public void markLoggedOut(String userId) {
+        update(userId, false);
+    }
+
+    /**
+     * 현재 로그인 상태 조회, 메모리에 기록이 없으면 DB에 저장된 값을 사용
+     */
+    public boolean isLoggedIn(String userId, boolean storedState) {
+        Boolean pending = pendingWrites.get(userId);
+        if (pending != null) {
+            return pending;
+        }
+        Boolean loggedIn = loginStates.getIfPresent(userId);
+        return loggedIn != null ? loggedIn : storedState;
+    }
+
+    /**
+     * 대기 중인 변경을 배치로 DB에 반영
+     */
+    @Scheduled(fixedDelayString = "${login-state.flush-interval-millis:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushPending() {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, Boolean>> drained = new ArrayList<>();
+        for (String userId : pendingWrites.keySet()) {
+            Boolean state = pendingWrites.remove(userId);
+            if (state != null) {
+                drained.add(Map.entry(userId, state));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<String, Boolean>> chunk =
+                    drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, chunk.stream()
+                        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                        .toList());
+            } catch (Exception e) {
+                log.error("로그인 상태 반영 실패, 다음 주기에 재시도합니다: {}건", chunk.size(), e);
+                // 그 사이 들어온 더 최신 변경이 있으면 그 값을 유지
+                chunk.forEach(entry -> pendingWrites.putIfAbsent(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void update(String userId, boolean loggedIn) {
+        loginStates.put(userId, loggedIn);
+        pendingWrites.put(userId, loggedIn);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 최근에 자기 정보를 변경한 사용자 목록 (읽기 복제본 사용 시 read-your-writes 보장용)
+ * 기록 후 일정 시간 동안은 해당 사용자의 읽기 전용 트랜잭션도 주 DB에서 읽는다
+ * 기간은 복제본 허용 지연(datasource.replica.max-lag-millis)보다 길어야 한다
+ *
+ * 기록은 인스턴스별 메모리에만 있으므로 다른 인스턴스가 처리한 변경은 알 수 없다
+ * 다른 인스턴스에서 방금 쓴 값을 반드시 봐야 하는 조회(로그인, ID 중복 확인 등)는 onPrimary로 감싸 항상 주 DB에서 읽는다
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWriters;
+
+    // onPrimary 실행 중 여부 (중첩 호출 시 가장 바깥 호출이 해제)
+    private final ThreadLocal<Boolean> pinnedToPrimary = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(@Value("${datasource.replica.enabled:false}") boolean enabled,
+                                 @Value("${datasource.replica.read-your-writes-millis:5000}") long windowMillis,
+                                 @Value("${datasource.replica.read-your-writes-max-size:100000}") long maxSize) {
+        this.enabled = enabled;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(windowMillis))
+                .build();
+    }
+
+    /**
+     * 사용자 정보 변경 기록 (복제본을 쓰지 않으면 아무것도 하지 않음)
+     */
+    public void markWritten(String userId) {
+        if (enabled) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isRecentlyWritten(String userId) {
+        return userId != null && recentWriters.getIfPresent(userId) != null;
+    }
+
+    /**
+     * action 안의 읽기 전용 조회를 복제본 상태와 관계없이 주 DB에서 실행
+     * (예: 다른 인스턴스에서 가입한 직후의 로그인이 아직 복제되지 않은 복제본으로 가지 않도록)
+     */
+    public <T> T onPrimary(Supplier<T> action) {
+        boolean nested = isPinnedToPrimary();
+        pinnedToPrimary.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (!nested) {
+                pinnedToPrimary.remove();
+            }
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        return pinnedToPrimary.get() != null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 특성 키 기준 추천 응답 캐시
+ * 항목 수가 아닌 추정 바이트 수로 크기를 제한하고, 적중 시 절약한 토큰 수를 기록한다
+ */
+@Component
+public class RecommendationCache {
+
+    // 항목당 고정 비용 (키/값 객체 헤더, 캐시 노드 등)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final Cache<String, CachedRecommendation> cache;
+    private final Counter savedTokens;
+
+    public RecommendationCache(MeterRegistry meterRegistry,
+                               @Value("${recommendation.cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${recommendation.cache.ttl-minutes:360}") long ttlMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedRecommendation value) -> value.estimatedBytes(key))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recommendations");
+        this.savedTokens = Counter.builder("recommendation.cache.saved.tokens")
+                .description("캐시 적중으로 호출하지 않은 OpenAI 토큰 수")
+                .register(meterRegistry);
+        Gauge.builder("recommendation.cache.bytes", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .description("추천 캐시에 저장된 응답의 추정 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 추천 조회, 적중 시 절약한 토큰 수 기록
+     */
+    public Optional<CachedRecommendation> get(String key) {
+        CachedRecommendation cached = cache.getIfPresent(key);
+        if (cached != null) {
+            savedTokens.increment(cached.totalTokens());
+        }
+        return Optional.ofNullable(cached);
+    }
+
+    public void put(String key, String content, int totalTokens) {
+        cache.put(key, new CachedRecommendation(content, totalTokens));
+    }
+
+    public record CachedRecommendation(String content, int totalTokens) {
+
+        // Java 문자열은 최대 2바이트/문자로 계산
+        int estimatedBytes(String key) {
+            long bytes = ENTRY_OVERHEAD_BYTES + 2L * key.length() + 2L * content.length();
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+    }
+}
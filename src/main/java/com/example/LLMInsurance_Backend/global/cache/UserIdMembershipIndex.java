@@ -0,0 +1,211 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.example.LLMInsurance_Backend.global.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 ID 존재 여부를 빠르게 걸러내는 블룸 필터 인덱스
+ * "없음"이 확실하면 DB 조회를 생략하고, "있을 수도 있음"일 때만 DB를 조회한다
+ *
+ * 필터는 인스턴스마다 따로 있으므로 다른 인스턴스에서 가입한 ID는 주기적으로 created_at 기준 증분 조회로 받아온다
+ * 그 사이(최대 sync-interval-millis)에는 "없음"이 틀릴 수 있으므로 ID 중복 확인 API 응답 용도로만 쓰고,
+ * 실제 가입은 항상 DB로 중복을 확인한다
+ */
+@Slf4j
+@Component
+public class UserIdMembershipIndex {
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM app_users";
+    private static final String SCAN_SQL = "SELECT user_id FROM app_users";
+    private static final String DELTA_SQL = "SELECT user_id FROM app_users WHERE created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer rebuildTimer;
+    private final double falsePositiveRate;
+    private final long minExpectedInsertions;
+    private final int fetchSize;
+    private final Duration syncOverlap;
+
+    // 로드 전에는 null이며, 이때는 모든 조회를 DB로 보냄
+    private volatile BloomFilter current;
+
+    // 재구성 중인 필터, 재구성 동안 추가되는 ID는 양쪽에 모두 기록
+    private volatile BloomFilter building;
+
+    // 마지막 전체/증분 조회를 시작한 시각, 다음 증분 조회는 이 시각부터 읽음
+    private volatile LocalDateTime syncedFrom;
+
+    // 재구성과 증분 동기화는 한 번에 하나만 실행
+    // synchronized는 가상 스레드에서 전체 조회 동안 캐리어 스레드를 점유하므로 ReentrantLock 사용
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public UserIdMembershipIndex(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user-id-index.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${user-id-index.min-expected-insertions:100000}") long minExpectedInsertions,
+                                 @Value("${user-id-index.fetch-size:1000}") int fetchSize,
+                                 @Value("${user-id-index.sync-overlap-millis:60000}") long syncOverlapMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.fetchSize = fetchSize;
+        this.syncOverlap = Duration.ofMillis(syncOverlapMillis);
+
+        this.rebuildTimer = Timer.builder("user.id.index.rebuild")
+                .description("사용자 ID 인덱스 재구성 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("user.id.index.size", this, index -> index.current != null ? index.current.approximateSize() : 0)
+                .description("사용자 ID 인덱스에 추가된 원소 수")
+                .register(meterRegistry);
+        Gauge.builder("user.id.index.false.positive.rate",
+                        this, index -> index.current != null ? index.current.expectedFalsePositiveRate() : 1.0)
+                .description("사용자 ID 인덱스 예상 오탐률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 ID가 존재할 가능성이 있는지 확인 (false면 확실히 없음)
+     */
+    public boolean mightContain(String userId) {
+        BloomFilter filter = current;
+        return filter == null || filter.mightContain(userId);
+    }
+
+    /**
+     * 새 사용자 ID 추가
+     * 트랜잭션 중이면 커밋 이후 재구성 중인 필터에 한 번 더 기록하여 누락되지 않게 함
+     */
+    public void add(String userId) {
+        putIntoFilters(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    BloomFilter next = building;
+                    if (next != null) {
+                        next.put(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 원소 수가 설계 용량을 넘어 오탐률이 높아졌으면 더 큰 필터로 재구성
+     */
+    @Scheduled(fixedDelayString = "${user-id-index.check-interval-millis:600000}",
+            initialDelayString = "${user-id-index.check-interval-millis:600000}")
+    public void rebuildIfSaturated() {
+        BloomFilter filter = current;
+        if (filter != null && filter.approximateSize() > filter.expectedInsertions()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 추가된 사용자 ID를 필터에 반영
+     * created_at은 커밋 전에 정해지므로, 늦게 커밋된 행을 놓치지 않도록 이전 조회 시작 시각보다 sync-overlap-millis만큼 앞에서부터 읽음
+     * 이미 있는 ID는 다시 넣지 않아 원소 수(재구성 기준)가 부풀지 않음
+     */
+    @Scheduled(fixedDelayString = "${user-id-index.sync-interval-millis:5000}",
+            initialDelayString = "${user-id-index.sync-interval-millis:5000}")
+    public void syncRecentUserIds() {
+        BloomFilter filter = current;
+        LocalDateTime from = syncedFrom;
+        if (filter == null || from == null || !rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(DELTA_SQL, (RowCallbackHandler) rs -> {
+                String userId = rs.getString(1);
+                if (!filter.mightContain(userId)) {
+                    filter.put(userId);
+                }
+            }, Timestamp.valueOf(from.minus(syncOverlap))));
+            syncedFrom = startedAt;
+        } catch (Exception e) {
+            log.warn("사용자 ID 인덱스 증분 동기화 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성, 재구성 동안에도 기존 필터로 계속 응답
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        long startedAt = System.nanoTime();
+        LocalDateTime scanStartedAt = LocalDateTime.now();
+        try {
+            Long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+            long expected = Math.max(minExpectedInsertions, (count != null ? count : 0) * 2);
+            BloomFilter next = BloomFilter.create(expected, falsePositiveRate);
+            building = next;
+
+            // 읽기 전용 트랜잭션 안에서 조회해야 드라이버가 커서 단위로 가져옴
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        SCAN_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> next.put(rs.getString(1))));
+
+            current = next;
+            syncedFrom = scanStartedAt;
+            long elapsed = System.nanoTime() - startedAt;
+            rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("사용자 ID 인덱스 재구성 완료: {}건, {}ms, 예상 오탐률 {}",
+                    next.approximateSize(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    String.format("%.5f", next.expectedFalsePositiveRate()));
+        } catch (Exception e) {
+            log.error("사용자 ID 인덱스 재구성 실패, 기존 인덱스를 유지합니다", e);
+        } finally {
+            building = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private void putIntoFilters(String userId) {
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.put(userId);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(userId);
+        }
+    }
+}
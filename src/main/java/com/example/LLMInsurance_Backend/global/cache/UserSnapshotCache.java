@@ -0,0 +1,82 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * userId 기준 사용자 스냅샷 캐시 (크기 및 TTL 제한)
+ * 삭제되지 않은 사용자만 적재하며, 사용자 정보를 변경하는 곳에서는 반드시 put 또는 invalidate를 호출해야 한다
+ * put/invalidate는 현재 인스턴스에만 반영되므로 다른 인스턴스는 TTL이 지날 때까지 이전 값을 볼 수 있다
+ * (TTL을 짧게 두어 같은 요청이 몰릴 때의 DB 조회만 줄임)
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user-cache.max-size:10000}") long maxSize,
+                             @Value("${user-cache.ttl-seconds:5}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // 적중/미스/제거 지표 등록 (cache.gets, cache.evictions 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userSnapshots");
+    }
+
+    /**
+     * 캐시에서 사용자 스냅샷 조회, 없으면 DB에서 읽어 적재 (없거나 삭제된 사용자면 빈 값)
+     */
+    public Optional<UserSnapshot> get(String userId) {
+        return Optional.ofNullable(cache.get(userId, this::load));
+    }
+
+    /**
+     * 변경된 사용자 정보로 캐시 갱신 (트랜잭션 중이면 커밋 이후 반영)
+     */
+    public void put(UserSnapshot snapshot) {
+        runAfterCommit(() -> cache.put(snapshot.userId(), snapshot));
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     * 커밋 전에 다른 요청이 이전 값을 다시 적재할 수 있으므로 커밋 이후에 한 번 더 무효화
+     */
+    public void invalidate(String userId) {
+        cache.invalidate(userId);
+        runAfterCommit(() -> cache.invalidate(userId));
+    }
+
+    private UserSnapshot load(String userId) {
+        return userRepository.findActiveSnapshotByUserId(userId).orElse(null);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
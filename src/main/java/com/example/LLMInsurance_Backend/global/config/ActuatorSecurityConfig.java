@@ -0,0 +1,67 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.StringUtils;
+
+/**
+ * 액추에이터 전용 보안 설정
+ * health, info는 공개하고 나머지(metrics, prometheus 등)는 지표 수집용 계정의 HTTP Basic 인증을 요구한다
+ * 비밀번호가 설정되지 않으면 공개 엔드포인트 외에는 모두 거부
+ */
+@Configuration
+public class ActuatorSecurityConfig {
+
+    private static final String METRICS_ROLE = "METRICS";
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http,
+                                                   PasswordEncoder passwordEncoder,
+                                                   @Value("${metrics.auth.username:metrics}") String username,
+                                                   @Value("${metrics.auth.password:}") String password) throws Exception {
+        boolean credentialsConfigured = StringUtils.hasText(password);
+
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .csrf(AbstractHttpConfigurer::disable)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> {
+                auth.requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll();
+                if (credentialsConfigured) {
+                    auth.anyRequest().hasRole(METRICS_ROLE);
+                } else {
+                    auth.anyRequest().denyAll();
+                }
+            })
+            .httpBasic(Customizer.withDefaults());
+
+        // 애플리케이션 사용자(CustomUserDetailsService)와 섞이지 않도록 이 체인에만 인증 관리자를 둠
+        if (credentialsConfigured) {
+            InMemoryUserDetailsManager metricsUsers = new InMemoryUserDetailsManager(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles(METRICS_ROLE)
+                    .build());
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+            provider.setUserDetailsService(metricsUsers);
+            http.authenticationManager(new ProviderManager(provider));
+        }
+
+        return http.build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import com.example.LLMInsurance_Backend.controller.AuthController;
+import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.service.PasswordHashingService;
+import com.example.LLMInsurance_Backend.service.UserArchiveService;
+import com.example.LLMInsurance_Backend.service.UserService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 빠른 기동 모드 (fast-start 프로필) 설정
+ * 지연 초기화를 켜더라도 로그인/회원가입 경로는 기동 시 미리 만들어 첫 요청이 느려지지 않게 한다
+ * (UserService가 리포지토리를 통해 JPA EntityManagerFactory도 함께 초기화)
+ */
+@Configuration
+@Profile("fast-start")
+public class FastStartConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter authPathEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AuthController.class, UserService.class, PasswordHashingService.class, JwtTokenUtil.class);
+    }
+
+    // 다른 빈이 참조하지 않는 주기 작업은 지연 초기화하면 생성되지 않아 실행되지 않음
+    @Bean
+    static LazyInitializationExcludeFilter scheduledJobEagerInitialization() {
+        return LazyInitializationExcludeFilter.forBeanTypes(UserArchiveService.class);
+    }
+}
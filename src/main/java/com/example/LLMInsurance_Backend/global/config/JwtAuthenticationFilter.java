@@ -1,30 +1,47 @@
 package com.example.LLMInsurance_Backend.global.config;
 
 import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.global.utils.VerifiedToken;
+import com.example.LLMInsurance_Backend.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
-    private final UserDetailsService userDetailsService;
+    private final CustomUserDetailsService userDetailsService;
+
+    // 토큰 파싱 + 서명 검증 시간 (결과별)
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(JwtTokenUtil jwtTokenUtil,
+                                   CustomUserDetailsService userDetailsService,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.userDetailsService = userDetailsService;
+        this.validTokenTimer = verifyTimer(meterRegistry, "valid");
+        this.invalidTokenTimer = verifyTimer(meterRegistry, "invalid");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,15 +51,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenUtil.validateToken(jwt)) {
-                String userId = jwtTokenUtil.getUserIdFromToken(jwt);
+            // 토큰 파싱과 서명 검증은 한 번만 수행 (토큰이 없는 요청은 측정하지 않음)
+            Optional<VerifiedToken> verifiedToken = verify(jwt);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+            if (verifiedToken.isPresent()) {
+                // 클레임 인증 모드에서는 사용자별 토큰 버전(짧은 TTL 캐시)만 확인하고 사용자 정보는 조회하지 않음
+                UserDetails userDetails = userDetailsService.loadUserByVerifiedToken(verifiedToken.get());
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                MDC.put(RequestLoggingContextFilter.USER_ID, userDetails.getUsername());
             }
         } catch (Exception ex) {
             log.error("보안 컨텍스트에 사용자 인증 정보를 설정할 수 없습니다", ex);
@@ -51,6 +71,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private Optional<VerifiedToken> verify(String jwt) {
+        if (jwt == null) {
+            return Optional.empty();
+        }
+        long startedAt = System.nanoTime();
+        Optional<VerifiedToken> verifiedToken = jwtTokenUtil.verifyToken(jwt);
+        (verifiedToken.isPresent() ? validTokenTimer : invalidTokenTimer)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return verifiedToken;
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .description("JWT 파싱 및 서명 검증 소요 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
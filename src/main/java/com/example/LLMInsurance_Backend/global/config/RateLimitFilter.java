@@ -0,0 +1,119 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import com.example.LLMInsurance_Backend.global.utils.RateLimiter;
+import com.example.LLMInsurance_Backend.global.warmup.WarmUpRequestMarker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 경로 그룹별 요청 제한 필터 (JWT 인증 필터 다음에 실행되어 로그인 사용자 기준 제한 가능)
+ * 제한을 넘으면 429와 RateLimit-*, Retry-After 헤더로 응답한다
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LIMIT_HEADER = "RateLimit-Limit";
+    private static final String REMAINING_HEADER = "RateLimit-Remaining";
+    private static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final WarmUpRequestMarker warmUpRequestMarker;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties,
+                           MeterRegistry meterRegistry,
+                           WarmUpRequestMarker warmUpRequestMarker) {
+        this.properties = properties;
+        this.warmUpRequestMarker = warmUpRequestMarker;
+        this.rateLimiter = new RateLimiter(properties.maxKeys(), Duration.ofSeconds(properties.idleEvictionSeconds()));
+        for (RateLimitProperties.Group group : properties.groups()) {
+            rejectedCounters.put(group.name(), Counter.builder("rate.limit.rejected")
+                    .description("요청 제한으로 거절된 요청 수")
+                    .tag("group", group.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled() || properties.groups().isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Group group = findGroup(request);
+        // 기동 중 자기 자신에게 보내는 예열 요청은 클라이언트 요청 제한에서 제외
+        if (group == null || warmUpRequestMarker.matches(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = group.name() + ":" + resolveKey(group, request);
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(key, group.capacity(), group.refillPerSecond());
+        response.setHeader(LIMIT_HEADER, String.valueOf(decision.limit()));
+        response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        response.setHeader(RESET_HEADER, String.valueOf(decision.resetSeconds()));
+
+        if (!decision.allowed()) {
+            rejectedCounters.get(group.name()).increment();
+            log.warn("요청 제한 초과: group={}, key={}", group.name(), key);
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitProperties.Group findGroup(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Group group : properties.groups()) {
+            for (String pattern : group.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP가 전달되어야 함 (prod 프로필은 native)
+    private static String resolveKey(RateLimitProperties.Group group, HttpServletRequest request) {
+        if (group.key() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 경로 그룹별 요청 제한 설정 (rate-limit.*)
+ * 요청 경로와 처음으로 일치하는 그룹의 제한이 적용된다
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("100000") long maxKeys,
+                                  @DefaultValue("600") long idleEvictionSeconds,
+                                  @DefaultValue List<Group> groups) {
+
+    /**
+     * @param patterns        적용할 경로 패턴 (Ant 스타일)
+     * @param key             제한 기준 (USER: 로그인 사용자, 비로그인 시 IP / IP: 클라이언트 IP)
+     * @param capacity        순간 최대 허용 요청 수 (버킷 크기)
+     * @param refillPerSecond 초당 보충되는 요청 수
+     */
+    public record Group(String name,
+                        List<String> patterns,
+                        @DefaultValue("IP") KeyType key,
+                        int capacity,
+                        double refillPerSecond) {
+    }
+
+    public enum KeyType { USER, IP }
+}
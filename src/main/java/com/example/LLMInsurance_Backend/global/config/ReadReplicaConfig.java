@@ -0,0 +1,85 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import com.example.LLMInsurance_Backend.global.utils.ReplicaLagMonitor;
+import com.example.LLMInsurance_Backend.global.utils.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 사용 설정 (datasource.replica.enabled=true)
+ * 주 DB와 복제본에 각각 커넥션 풀을 두고(hikaricp.* 지표의 pool 태그: primary, replica),
+ * 읽기 전용 트랜잭션만 복제본으로 보낸다 (복제 지연, read-your-writes 시에는 주 DB)
+ * 가상 스레드 모드에서는 두 풀 모두 ConnectionLimitingDataSource로 감싸지므로 DataSource 타입으로 주입받는다
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    /**
+     * 주 DB 풀 (spring.datasource.*, Spring Boot 기본 Hikari 설정과 같은 방식으로 생성)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * 복제본 풀 (datasource.replica.*, 풀 설정은 datasource.replica.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password,
+                                              DataSourceProperties primaryProperties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(StringUtils.hasText(username) ? username : primaryProperties.determineUsername())
+                .password(StringUtils.hasText(password) ? password : primaryProperties.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.max-lag-millis:1000}") long maxLagMillis,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, maxLagMillis, meterRegistry);
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource (JPA, JdbcTemplate 등)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry meterRegistry) {
+        log.info("읽기 전용 트랜잭션을 복제본으로 라우팅합니다");
+        return new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor, readYourWritesTracker, meterRegistry)
+                .toLazyProxy();
+    }
+}
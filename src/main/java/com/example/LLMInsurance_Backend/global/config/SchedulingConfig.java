@@ -0,0 +1,12 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(로그인 상태 반영 등) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,8 +1,13 @@
 package com.example.LLMInsurance_Backend.global.config;
 
+import com.example.LLMInsurance_Backend.global.utils.BCryptStrengthCalibrator;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -12,6 +17,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -21,14 +27,25 @@ import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
+    /**
+     * 보정이 켜져 있으면 목표 해시 시간에 맞춰 BCrypt cost를 결정
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${bcrypt.strength:10}") int strength,
+                                           @Value("${bcrypt.calibration.enabled:false}") boolean calibrationEnabled,
+                                           @Value("${bcrypt.calibration.target-millis:250}") long targetMillis,
+                                           @Value("${bcrypt.calibration.max-strength:14}") int maxStrength) {
+        int resolvedStrength = calibrationEnabled
+                ? BCryptStrengthCalibrator.calibrate(targetMillis, strength, maxStrength)
+                : strength;
+        return new BCryptPasswordEncoder(resolvedStrength);
     }
 
     @Bean
@@ -53,18 +70,27 @@ public class SecurityConfig {
             
             // 요청 인증 설정
             .authorizeHttpRequests(auth -> auth
+                // 스트리밍 응답(SSE)의 비동기 디스패치는 최초 요청에서 이미 인증됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // 인증 없이 접근 가능한 경로
                 .requestMatchers("/api/v1/auth/**").permitAll() // 인증 API
                 .requestMatchers("/health").permitAll() // 헬스체크
-                .requestMatchers("/actuator/**").permitAll() // 액추에이터
                 .requestMatchers("/h2-console/**").permitAll() // H2 콘솔
                 
                 // 그 외 모든 요청은 인증 필요
                 .anyRequest().authenticated()
             )
+
+            // 토큰이 없거나 폐기된 요청은 401 (기본값 403이면 클라이언트가 재로그인 필요 여부를 구분할 수 없음)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             
             // JWT 인증 필터 추가
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+            // 요청 제한 필터 추가 (인증된 사용자 ID를 기준으로 쓸 수 있도록 JWT 필터 다음에 실행)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,61 @@
+package com.example.LLMInsurance_Backend.global.config;
+
+import com.example.LLMInsurance_Backend.global.utils.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true) 설정
+ * Tomcat 요청 처리, 스케줄러, 애플리케이션 TaskExecutor는 Spring Boot가 가상 스레드로 전환하며,
+ * 여기서는 커넥션 풀 앞에 동시 획득/대기 인원 제한을 추가한다
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${datasource-limit.max-waiting:200}") int maxWaiting,
+            @Value("${datasource-limit.timeout-millis:3000}") long timeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("커넥션 획득 제한 적용: maxConnections={}, maxWaiting={}, timeoutMillis={}",
+                            hikari.getMaximumPoolSize(), maxWaiting, timeoutMillis);
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), maxWaiting, timeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 커넥션 획득 대기 인원 (hikaricp.connections.pending은 제한을 통과한 스레드만 집계)
+     * 읽기 복제본을 쓰면 풀마다 따로 집계 (datasource 태그: 빈 이름)
+     */
+    @Bean
+    MeterBinder connectionLimitingDataSourceMetrics(ObjectProvider<Map<String, DataSource>> dataSources) {
+        return registry -> dataSources.ifAvailable(candidates -> candidates.forEach((name, candidate) -> {
+            if (candidate instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("datasource.limit.waiting", limited, ConnectionLimitingDataSource::getWaitingCount)
+                        .description("커넥션 획득 제한 앞에서 대기 중인 스레드 수")
+                        .tag("datasource", name)
+                        .register(registry);
+            }
+        }));
+    }
+}
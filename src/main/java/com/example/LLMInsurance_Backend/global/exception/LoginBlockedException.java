@@ -0,0 +1,17 @@
+package com.example.LLMInsurance_Backend.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 로그인 실패가 반복되어 일정 시간 로그인을 거절할 때 사용하는 예외 (429 + Retry-After)
+ */
+@Getter
+public class LoginBlockedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public LoginBlockedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.LLMInsurance_Backend.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량 초과로 요청을 즉시 거절할 때 사용하는 예외 (503 + Retry-After)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
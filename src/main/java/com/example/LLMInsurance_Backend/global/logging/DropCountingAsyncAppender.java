@@ -0,0 +1,45 @@
+package com.example.LLMInsurance_Backend.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 세는 비동기 어펜더
+ * 대기열이 discardingThreshold 아래로 남으면 INFO 이하를 버리고, neverBlock이면 가득 찼을 때 WARN 이상도 버린다
+ * 로깅은 스프링 컨텍스트보다 먼저 초기화되므로 카운터는 정적으로 두고 LoggingMetrics가 지표로 노출한다
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DISCARDED = new LongAdder();
+    private static final LongAdder QUEUE_FULL = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 가득 찬 대기열에 넣으려는 이벤트는 neverBlock이면 조용히 버려지므로 여기서 집계 (동시 호출 시 근사치)
+        if (isNeverBlock() && getRemainingCapacity() == 0) {
+            QUEUE_FULL.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    // discardingThreshold 아래일 때만 호출되며, true를 반환하면 이벤트가 버려짐
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable) {
+            DISCARDED.increment();
+        }
+        return discardable;
+    }
+
+    static long discardedCount() {
+        return DISCARDED.sum();
+    }
+
+    static long queueFullCount() {
+        return QUEUE_FULL.sum();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.LLMInsurance_Backend.global.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 로깅에서 버려지거나 샘플링으로 생략된 로그 수 지표
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", this, metrics -> DropCountingAsyncAppender.discardedCount())
+                .description("비동기 로그 대기열이 차서 버린 로그 수")
+                .tag("reason", "discarded")
+                .register(registry);
+        FunctionCounter.builder("logging.events.dropped", this, metrics -> DropCountingAsyncAppender.queueFullCount())
+                .description("비동기 로그 대기열이 차서 버린 로그 수")
+                .tag("reason", "queue-full")
+                .register(registry);
+        FunctionCounter.builder("logging.events.sampled.out", this, metrics -> LogSamplingTurboFilter.sampledOutCount())
+                .description("샘플링으로 생략된 로그 수")
+                .register(registry);
+    }
+}
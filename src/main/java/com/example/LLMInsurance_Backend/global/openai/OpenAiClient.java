@@ -0,0 +1,152 @@
+package com.example.LLMInsurance_Backend.global.openai;
+
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionChunk;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionRequest;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionResponse;
+import com.example.LLMInsurance_Backend.global.openai.dto.EmbeddingRequest;
+import com.example.LLMInsurance_Backend.global.openai.dto.EmbeddingResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * OpenAI API 논블로킹 클라이언트
+ * 응답을 기다리는 동안 스레드를 점유하지 않으며, 응답 본문은 도착하는 대로 디코딩한다
+ */
+@Slf4j
+@Component
+public class OpenAiClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final String STREAM_DONE = "[DONE]";
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String chatModel;
+    private final String embeddingModel;
+    private final Duration requestTimeout;
+    private final Duration firstChunkTimeout;
+    private final Duration streamIdleTimeout;
+
+    public OpenAiClient(@Qualifier("openAiWebClient") WebClient webClient,
+                        ObjectMapper objectMapper,
+                        @Value("${openai.model.chat:gpt-4o-mini}") String chatModel,
+                        @Value("${openai.model.embedding:text-embedding-3-small}") String embeddingModel,
+                        @Value("${openai.timeout.request-seconds:60}") long requestTimeoutSeconds,
+                        @Value("${openai.timeout.first-chunk-seconds:15}") long firstChunkTimeoutSeconds,
+                        @Value("${openai.timeout.stream-idle-seconds:20}") long streamIdleTimeoutSeconds) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.chatModel = chatModel;
+        this.embeddingModel = embeddingModel;
+        this.requestTimeout = Duration.ofSeconds(requestTimeoutSeconds);
+        this.firstChunkTimeout = Duration.ofSeconds(firstChunkTimeoutSeconds);
+        this.streamIdleTimeout = Duration.ofSeconds(streamIdleTimeoutSeconds);
+    }
+
+    /**
+     * 채팅 응답을 한 번에 받음 (model이 없으면 기본 모델 사용)
+     */
+    public Mono<ChatCompletionResponse> chatCompletion(ChatCompletionRequest request) {
+        return webClient.post()
+                .uri("/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(withDefaultModel(request).asBlocking())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, OpenAiClient::toException)
+                .bodyToMono(ChatCompletionResponse.class)
+                .timeout(requestTimeout)
+                .onErrorMap(OpenAiClient::isTransportError, e -> translate("chat/completions", e));
+    }
+
+    /**
+     * 채팅 응답을 청크 단위로 받음
+     * 구독을 취소하면 OpenAI 연결도 함께 끊어 생성을 중단한다
+     */
+    public Flux<ChatCompletionChunk> streamChatCompletion(ChatCompletionRequest request) {
+        return webClient.post()
+                .uri("/chat/completions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(withDefaultModel(request).asStream())
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, OpenAiClient::toException)
+                .bodyToFlux(SSE_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                .map(this::parseChunk)
+                // 첫 청크와 이후 청크 사이에 각각 시간 제한 적용
+                .timeout(Mono.delay(firstChunkTimeout), chunk -> Mono.delay(streamIdleTimeout))
+                .onErrorMap(OpenAiClient::isTransportError, e -> translate("chat/completions (stream)", e));
+    }
+
+    /**
+     * 여러 문장의 임베딩 조회 (입력 순서와 같은 index로 반환)
+     */
+    public Mono<EmbeddingResponse> embeddings(List<String> inputs) {
+        return webClient.post()
+                .uri("/embeddings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new EmbeddingRequest(embeddingModel, inputs))
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, OpenAiClient::toException)
+                .bodyToMono(EmbeddingResponse.class)
+                .timeout(requestTimeout)
+                .onErrorMap(OpenAiClient::isTransportError, e -> translate("embeddings", e));
+    }
+
+    public String getChatModel() {
+        return chatModel;
+    }
+
+    private ChatCompletionRequest withDefaultModel(ChatCompletionRequest request) {
+        return request.model() != null ? request : request.withModel(chatModel);
+    }
+
+    private ChatCompletionChunk parseChunk(String data) {
+        try {
+            return objectMapper.readValue(data, ChatCompletionChunk.class);
+        } catch (JsonProcessingException e) {
+            throw new OpenAiException("OpenAI 스트리밍 응답을 해석할 수 없습니다.", e);
+        }
+    }
+
+    // 오류 본문은 작으므로 모아서 메시지에 포함
+    private static Mono<Throwable> toException(ClientResponse response) {
+        int status = response.statusCode().value();
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    log.warn("OpenAI API 오류 응답: status={}, body={}", status, body);
+                    return new OpenAiException("OpenAI API 호출이 실패했습니다. (status=" + status + ")", status);
+                });
+    }
+
+    private static boolean isTransportError(Throwable e) {
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+
+    private static OpenAiException translate(String operation, Throwable e) {
+        String reason = e instanceof TimeoutException ? "응답 시간 초과" : "연결 실패";
+        log.warn("OpenAI API {} 호출 실패: {}", operation, reason);
+        return new OpenAiException("OpenAI API 호출이 실패했습니다. (" + reason + ")", e);
+    }
+}
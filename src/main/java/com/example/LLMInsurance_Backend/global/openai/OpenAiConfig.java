@@ -0,0 +1,62 @@
+package com.example.LLMInsurance_Backend.global.openai;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * OpenAI 전용 WebClient 및 커넥션 풀 설정
+ * 모든 호출이 하나의 풀을 공유하며 keep-alive로 TLS 연결을 재사용한다
+ */
+@Configuration
+public class OpenAiConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(
+            @Value("${openai.http.max-connections:100}") int maxConnections,
+            @Value("${openai.http.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${openai.http.pending-acquire-timeout-millis:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${openai.http.max-idle-time-seconds:30}") long maxIdleTimeSeconds,
+            @Value("${openai.http.max-life-time-seconds:300}") long maxLifeTimeSeconds) {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                // 서버/로드밸런서가 먼저 끊기 전에 유휴 연결을 정리
+                .maxIdleTime(Duration.ofSeconds(maxIdleTimeSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeTimeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleTimeSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder webClientBuilder,
+                                     @Qualifier("openAiConnectionProvider") ConnectionProvider connectionProvider,
+                                     @Value("${openai.api.key}") String apiKey,
+                                     @Value("${openai.api.base-url}") String baseUrl,
+                                     @Value("${openai.http.connect-timeout-millis:3000}") int connectTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(true);
+        // 응답 대기 시간은 Netty responseTimeout 대신 OpenAiClient의 호출별 timeout으로 제한
+        // (일반 호출은 생성이 끝날 때까지 데이터가 오지 않으므로 읽기 간격 제한을 걸면 request-seconds 전에 끊김)
+
+        return webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.LLMInsurance_Backend.global.openai;
+
+import lombok.Getter;
+
+/**
+ * OpenAI API 호출 실패 (HTTP 오류 응답, 시간 초과 등)
+ */
+@Getter
+public class OpenAiException extends RuntimeException {
+
+    // HTTP 응답을 받지 못한 경우 0
+    private final int statusCode;
+
+    public OpenAiException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public OpenAiException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = 0;
+    }
+}
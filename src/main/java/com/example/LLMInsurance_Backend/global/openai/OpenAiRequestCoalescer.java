@@ -0,0 +1,70 @@
+package com.example.LLMInsurance_Backend.global.openai;
+
+import com.example.LLMInsurance_Backend.global.exception.ServiceOverloadedException;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionChunk;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionResponse;
+import com.example.LLMInsurance_Backend.global.utils.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 같은 프롬프트 키로 동시에 들어온 OpenAI 호출을 하나로 합침
+ * 키는 호출하는 쪽에서 프롬프트를 결정하는 값(사용자 특성 + 템플릿 버전 등)으로 만든다
+ */
+@Component
+public class OpenAiRequestCoalescer {
+
+    private final SingleFlight<String, ChatCompletionChunk> streamingCalls;
+    private final SingleFlight<String, ChatCompletionResponse> completionCalls;
+    private final Supplier<ServiceOverloadedException> rejection;
+
+    public OpenAiRequestCoalescer(MeterRegistry meterRegistry,
+                                  @Value("${openai.coalescing.max-waiters:1000}") int maxWaiters,
+                                  @Value("${openai.coalescing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.rejection = () -> new ServiceOverloadedException(
+                "같은 요청이 너무 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        this.streamingCalls = new SingleFlight<>(maxWaiters, counters(meterRegistry, "stream"));
+        this.completionCalls = new SingleFlight<>(maxWaiters, counters(meterRegistry, "completion"));
+
+        Gauge.builder("openai.coalescing.in.flight", this,
+                        coalescer -> coalescer.streamingCalls.inFlight() + coalescer.completionCalls.inFlight())
+                .description("진행 중인 OpenAI 호출 수 (합쳐진 요청은 1건으로 계산)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트리밍 호출 공유 (늦게 합류한 요청도 처음 청크부터 받음)
+     */
+    public Flux<ChatCompletionChunk> streamChatCompletion(String key, Supplier<Flux<ChatCompletionChunk>> call) {
+        return streamingCalls.execute(key, call, rejection);
+    }
+
+    /**
+     * 일반 호출 공유
+     */
+    public Mono<ChatCompletionResponse> chatCompletion(String key, Supplier<Mono<ChatCompletionResponse>> call) {
+        return completionCalls.execute(key, call, rejection).singleOrEmpty();
+    }
+
+    // 결과별 카운터: leader(실제 호출), joined(합쳐진 요청), rejected(대기 인원 초과)
+    private static SingleFlight.Listener counters(MeterRegistry meterRegistry, String mode) {
+        Map<SingleFlight.Outcome, Counter> counters = new EnumMap<>(SingleFlight.Outcome.class);
+        for (SingleFlight.Outcome outcome : SingleFlight.Outcome.values()) {
+            counters.put(outcome, Counter.builder("openai.coalescing.requests")
+                    .description("OpenAI 요청 합치기 결과")
+                    .tag("mode", mode)
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        return outcome -> counters.get(outcome).increment();
+    }
+}
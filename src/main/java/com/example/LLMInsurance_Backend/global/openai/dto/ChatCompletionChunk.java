@@ -0,0 +1,48 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 스트리밍 응답의 청크 (마지막 청크는 choices가 비어 있고 usage만 포함)
+ */
+public record ChatCompletionChunk(String id,
+                                  String model,
+                                  List<Choice> choices,
+                                  Usage usage) {
+
+    /**
+     * 이미 완성된 내용을 하나의 청크로 표현 (캐시된 응답 재생용)
+     */
+    public static ChatCompletionChunk completed(String content, Usage usage) {
+        return new ChatCompletionChunk(null, null,
+                List.of(new Choice(0, new Delta("assistant", content), "stop")), usage);
+    }
+
+    /**
+     * 첫 번째 선택지의 종료 사유 (마지막 내용 청크에만 존재)
+     */
+    public String finishReason() {
+        return choices == null || choices.isEmpty() ? null : choices.get(0).finishReason();
+    }
+
+    /**
+     * 첫 번째 선택지에 새로 추가된 내용, 없으면 빈 문자열
+     */
+    public String contentDelta() {
+        if (choices == null || choices.isEmpty() || choices.get(0).delta() == null
+                || choices.get(0).delta().content() == null) {
+            return "";
+        }
+        return choices.get(0).delta().content();
+    }
+
+    public record Choice(int index,
+                         Delta delta,
+                         @JsonProperty("finish_reason") String finishReason) {
+    }
+
+    public record Delta(String role, String content) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * POST /chat/completions 요청 (null 필드는 전송하지 않음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatCompletionRequest(String model,
+                                    List<ChatMessage> messages,
+                                    Double temperature,
+                                    @JsonProperty("max_tokens") Integer maxTokens,
+                                    Boolean stream,
+                                    @JsonProperty("stream_options") StreamOptions streamOptions) {
+
+    public static ChatCompletionRequest of(String model, List<ChatMessage> messages) {
+        return new ChatCompletionRequest(model, messages, null, null, null, null);
+    }
+
+    public ChatCompletionRequest withModel(String model) {
+        return new ChatCompletionRequest(model, messages, temperature, maxTokens, stream, streamOptions);
+    }
+
+    // 스트리밍 응답의 마지막 청크에 토큰 사용량을 포함하도록 요청
+    public ChatCompletionRequest asStream() {
+        return new ChatCompletionRequest(model, messages, temperature, maxTokens, true, new StreamOptions(true));
+    }
+
+    public ChatCompletionRequest asBlocking() {
+        return new ChatCompletionRequest(model, messages, temperature, maxTokens, null, null);
+    }
+
+    public record StreamOptions(@JsonProperty("include_usage") boolean includeUsage) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record ChatCompletionResponse(String id,
+                                     String model,
+                                     List<Choice> choices,
+                                     Usage usage) {
+
+    /**
+     * 첫 번째 선택지의 응답 내용
+     */
+    public String content() {
+        if (choices == null || choices.isEmpty() || choices.get(0).message() == null) {
+            return null;
+        }
+        return choices.get(0).message().content();
+    }
+
+    public record Choice(int index,
+                         ChatMessage message,
+                         @JsonProperty("finish_reason") String finishReason) {
+    }
+}
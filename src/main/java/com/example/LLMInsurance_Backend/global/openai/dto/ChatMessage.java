@@ -0,0 +1,12 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+public record ChatMessage(String role, String content) {
+
+    public static ChatMessage system(String content) {
+        return new ChatMessage("system", content);
+    }
+
+    public static ChatMessage user(String content) {
+        return new ChatMessage("user", content);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import java.util.List;
+
+public record EmbeddingRequest(String model, List<String> input) {
+}
@@ -0,0 +1,11 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import java.util.List;
+
+public record EmbeddingResponse(String model,
+                                List<Embedding> data,
+                                Usage usage) {
+
+    public record Embedding(int index, float[] embedding) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.LLMInsurance_Backend.global.openai.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record Usage(@JsonProperty("prompt_tokens") int promptTokens,
+                    @JsonProperty("completion_tokens") int completionTokens,
+                    @JsonProperty("total_tokens") int totalTokens) {
+}
@@ -0,0 +1,62 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 환경의 CPU 성능에 맞춰 BCrypt cost를 결정하는 유틸리티
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * 해시 1회 소요 시간이 목표 시간을 넘지 않는 가장 큰 cost를 반환
+     * cost가 1 증가할 때마다 소요 시간이 2배가 되므로 최소 cost에서만 측정
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        // 첫 측정은 클래스 로딩/JIT 영향이 크므로 버림
+        encoder.encode("calibration-warmup");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-sample");
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        long measuredMillis = Math.max(samples[SAMPLES / 2], 1);
+
+        int strength = minStrength;
+        long estimatedMillis = measuredMillis;
+        while (strength < maxStrength && estimatedMillis * 2 <= targetMillis) {
+            strength++;
+            estimatedMillis *= 2;
+        }
+
+        log.info("BCrypt cost 보정 완료: cost={}, 예상 소요 시간={}ms (cost {} 측정값 {}ms, 목표 {}ms)",
+                strength, estimatedMillis, minStrength, measuredMillis, targetMillis);
+        return strength;
+    }
+
+    /**
+     * 인코딩된 BCrypt 해시에서 cost 추출 (BCrypt 형식이 아니면 -1)
+     */
+    public static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+}
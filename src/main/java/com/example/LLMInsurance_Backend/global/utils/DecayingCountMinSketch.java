@@ -0,0 +1,131 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간이 지나면 절반씩 줄어드는 근사 카운터 (count-min sketch)
+ * 키 개수와 무관하게 고정된 배열만 사용하며, 슬롯 단위 CAS로 갱신하므로 락이 없다
+ * 해시 충돌은 값을 늘리는 방향으로만 작용하므로 여러 행 중 최솟값을 추정치로 사용한다
+ */
+public final class DecayingCountMinSketch {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int depth;
+    private final int widthMask;
+    private final long halfLifeSeconds;
+    private final long originNanos = System.nanoTime();
+
+    /**
+     * @param width           행당 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param depth           행 수 (해시 함수 수)
+     * @param halfLifeSeconds 카운트가 절반으로 줄어드는 시간
+     */
+    public DecayingCountMinSketch(int width, int depth, long halfLifeSeconds) {
+        int roundedWidth = Integer.highestOneBit(Math.max(width - 1, 1)) << 1;
+        this.slots = new AtomicLongArray(roundedWidth * depth);
+        this.depth = depth;
+        this.widthMask = roundedWidth - 1;
+        this.halfLifeSeconds = Math.max(halfLifeSeconds, 1);
+    }
+
+    /**
+     * 키의 카운트를 1 증가시키고 증가 후 추정치를 반환
+     */
+    public Estimate increment(String key) {
+        long now = nowSeconds();
+        long hash1 = BloomFilter.hash(key);
+        long hash2 = BloomFilter.mix(hash1);
+        Estimate min = null;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, hash1, hash2);
+            long current;
+            long next;
+            do {
+                current = slots.get(index);
+                long count = Math.min(decayed(current, now) + 1, COUNT_MASK);
+                next = (now << COUNT_BITS) | count;
+            } while (!slots.compareAndSet(index, current, next));
+            min = smaller(min, new Estimate(next & COUNT_MASK, now));
+        }
+        return min;
+    }
+
+    /**
+     * 현재 추정치 조회
+     */
+    public Estimate estimate(String key) {
+        long now = nowSeconds();
+        long hash1 = BloomFilter.hash(key);
+        long hash2 = BloomFilter.mix(hash1);
+        Estimate min = null;
+        for (int row = 0; row < depth; row++) {
+            long slot = slots.get(index(row, hash1, hash2));
+            min = smaller(min, new Estimate(decayed(slot, now), slot >>> COUNT_BITS));
+        }
+        return min;
+    }
+
+    /**
+     * 키의 현재 추정치만큼 각 슬롯에서 빼서 키의 카운트를 제거
+     * 슬롯을 0으로 만들지 않으므로 같은 슬롯을 공유하는 다른 키의 카운트와 마지막 갱신 시각은 유지된다
+     * (모든 행에서 충돌한 키는 구분할 수 없으므로 함께 줄어들 수 있음)
+     */
+    public void reset(String key) {
+        long now = nowSeconds();
+        long amount = estimate(key).count();
+        if (amount == 0) {
+            return;
+        }
+        long hash1 = BloomFilter.hash(key);
+        long hash2 = BloomFilter.mix(hash1);
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, hash1, hash2);
+            long current;
+            long next;
+            do {
+                current = slots.get(index);
+                long updatedSecond = current >>> COUNT_BITS;
+                long halvings = (now - updatedSecond) / halfLifeSeconds;
+                if (halvings >= COUNT_BITS) {
+                    break;
+                }
+                // 저장된 값은 마지막 갱신 시각 기준이므로 제거할 양도 그 시각 기준으로 환산
+                long count = current & COUNT_MASK;
+                long remaining = count - Math.min(count, amount << halvings);
+                next = (updatedSecond << COUNT_BITS) | remaining;
+            } while (!slots.compareAndSet(index, current, next));
+        }
+    }
+
+    /**
+     * 생성 시점 기준 경과 초 (Estimate.lastUpdatedSecond와 같은 기준)
+     */
+    public long nowSeconds() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - originNanos);
+    }
+
+    private long decayed(long slot, long now) {
+        long count = slot & COUNT_MASK;
+        long halvings = (now - (slot >>> COUNT_BITS)) / halfLifeSeconds;
+        return halvings >= COUNT_BITS ? 0 : count >>> halvings;
+    }
+
+    private int index(int row, long hash1, long hash2) {
+        return row * (widthMask + 1) + (int) ((hash1 + row * hash2) & widthMask);
+    }
+
+    private static Estimate smaller(Estimate current, Estimate candidate) {
+        return current == null || candidate.count() < current.count() ? candidate : current;
+    }
+
+    /**
+     * @param count             감쇠가 반영된 추정 카운트
+     * @param lastUpdatedSecond 마지막으로 증가한 시각 (nowSeconds 기준)
+     */
+    public record Estimate(long count, long lastUpdatedSecond) {
+    }
+}
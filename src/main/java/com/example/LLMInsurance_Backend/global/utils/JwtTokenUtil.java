@@ -1,65 +1,157 @@
 package com.example.LLMInsurance_Backend.global.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
-public class JwtTokenUtil {
+public class JwtTokenUtil implements MeterBinder {
+
+    public static final String CLAIM_DELETED = "del";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
 
     private final SecretKey secretKey;
     private final long jwtExpiration;
 
+    // 불변 객체이므로 모든 요청 스레드가 공유
+    private final JwtParser jwtParser;
+
+    // 서명(signature) 구간을 키로 하는 검증 결과 캐시, 토큰 만료 시각에 맞춰 제거
+    private final Cache<String, CachedToken> verifiedTokenCache;
+
     public JwtTokenUtil(@Value("${jwt.secret}") String secret,
-                        @Value("${jwt.expiration}") long jwtExpiration) {
+                        @Value("${jwt.expiration}") long jwtExpiration,
+                        @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 검증 결과 캐시 적중/미스 지표 등록 (MeterBinder 빈은 Spring Boot가 자동으로 바인딩)
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, verifiedTokenCache, "jwtVerifiedTokens");
     }
 
     /**
      * JWT 토큰 생성
      */
     public String generateToken(String userId) {
+        return generateToken(userId, false, 0);
+    }
+
+    /**
+     * 인증에 필요한 클레임(삭제 여부, 토큰 버전)을 포함한 JWT 토큰 생성
+     */
+    public String generateToken(String userId, boolean deleted, int tokenVersion) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
                 .setSubject(userId)
+                .claim(CLAIM_DELETED, deleted)
+                .claim(CLAIM_TOKEN_VERSION, tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 검증하고, 검증된 토큰 정보를 반환
+     * 같은 토큰이 다시 들어오면 캐시에서 바로 반환하여 서명 검증을 생략
+     */
+    public Optional<VerifiedToken> verifyToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
+
+        String signature = extractSignature(token);
+        if (signature != null) {
+            CachedToken cached = verifiedTokenCache.getIfPresent(signature);
+            // 서명만 같고 본문이 다른 토큰은 캐시를 사용하지 않음
+            if (cached != null && cached.token().equals(token)
+                    && cached.verifiedToken().isValidAt(Instant.now())) {
+                return Optional.of(cached.verifiedToken());
+            }
+        }
+
+        VerifiedToken verifiedToken = parseAndVerify(token);
+        if (verifiedToken != null && signature != null) {
+            verifiedTokenCache.put(signature, new CachedToken(token, verifiedToken));
+        }
+        return Optional.ofNullable(verifiedToken);
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      */
     public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        return verifyToken(token).isPresent();
+    }
+
+    /**
+     * 토큰 만료 시간 추출
+     */
+    public Date getExpirationDateFromToken(String token) {
+        return parseClaims(token).getExpiration();
+    }
+
+    /**
+     * 토큰 만료 여부 확인
+     */
+    public boolean isTokenExpired(String token) {
+        Date expiration = getExpirationDateFromToken(token);
+        return expiration.before(new Date());
+    }
+
+    private Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    private VerifiedToken parseAndVerify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parseClaims(token);
+            return new VerifiedToken(
+                    claims.getSubject(),
+                    toInstant(claims.getIssuedAt()),
+                    toInstant(claims.getExpiration()),
+                    Boolean.TRUE.equals(claims.get(CLAIM_DELETED, Boolean.class)),
+                    getTokenVersion(claims)
+            );
         } catch (SecurityException ex) {
             log.error("유효하지 않은 JWT 서명입니다");
         } catch (MalformedJwtException ex) {
@@ -71,27 +163,56 @@ public class JwtTokenUtil {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims 문자열이 비어있습니다");
         }
-        return false;
+        return null;
     }
 
-    /**
-     * 토큰 만료 시간 추출
-     */
-    public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    // 클레임이 없는 이전 토큰은 버전 0으로 취급
+    private static int getTokenVersion(Claims claims) {
+        Integer version = claims.get(CLAIM_TOKEN_VERSION, Integer.class);
+        return version != null ? version : 0;
+    }
 
-        return claims.getExpiration();
+    private static String extractSignature(String token) {
+        int lastDot = token.lastIndexOf('.');
+        if (lastDot < 0 || lastDot == token.length() - 1) {
+            return null;
+        }
+        return token.substring(lastDot + 1);
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private record CachedToken(String token, VerifiedToken verifiedToken) {
     }
 
     /**
-     * 토큰 만료 여부 확인
+     * 캐시 항목의 수명을 토큰의 남은 유효 기간으로 설정
      */
-    public boolean isTokenExpired(String token) {
-        Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+
+        // 만료 시각이 없는 토큰은 오래 머물지 않도록 상한을 둠
+        private static final long MAX_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            Instant expiration = value.verifiedToken().expiration();
+            if (expiration == null) {
+                return MAX_TTL_NANOS;
+            }
+            long remainingMillis = expiration.toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (GCRA 방식)
+ * 키마다 "다음 요청이 허용되는 이론적 시각" 하나만 저장하고 CAS로 갱신하므로 락이 필요 없다
+ * 오래 사용되지 않은 키와 최대 개수를 넘는 키는 자동으로 제거되어 메모리가 제한된다
+ */
+public final class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    // 키별 이론적 도착 시각 (TAT, System.nanoTime 기준)
+    private final Cache<String, AtomicLong> arrivals;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(long maxKeys, Duration idleEviction) {
+        this(maxKeys, idleEviction, System::nanoTime);
+    }
+
+    // 테스트에서 시간을 직접 지정할 때 사용
+    RateLimiter(long maxKeys, Duration idleEviction, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.arrivals = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleEviction)
+                .build();
+    }
+
+    /**
+     * 요청 하나를 소비할 수 있으면 소비하고 결과를 반환
+     */
+    public Decision tryAcquire(String key, int capacity, double refillPerSecond) {
+        long interval = Math.max(1, (long) (NANOS_PER_SECOND / refillPerSecond));
+        long tolerance = interval * (Math.max(capacity, 1) - 1);
+        long now = nanoClock.getAsLong();
+        AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long tat = arrival.get();
+            long base = tat - now > 0 ? tat : now;
+            long waitNanos = base - now - tolerance;
+            if (waitNanos > 0) {
+                return new Decision(false, capacity, 0, toSeconds(base - now), toSeconds(waitNanos));
+            }
+            long next = base + interval;
+            if (arrival.compareAndSet(tat, next)) {
+                long remaining = (tolerance - (next - now) + interval) / interval;
+                return new Decision(true, capacity, Math.max(0, remaining), toSeconds(next - now), 0);
+            }
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * @param resetSeconds      버킷이 가득 찰 때까지 남은 시간
+     * @param retryAfterSeconds 거절된 경우 다음 요청이 허용되기까지 남은 시간
+     */
+    public record Decision(boolean allowed, int limit, long remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+}
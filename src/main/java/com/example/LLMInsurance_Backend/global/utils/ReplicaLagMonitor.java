@@ -0,0 +1,71 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본의 복제 지연을 주기적으로 확인
+ * 확인 전이거나 조회에 실패하거나 지연이 허용치를 넘으면 사용할 수 없는 것으로 판단한다
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // 받은 WAL을 모두 재생했으면 지연 0 (주 DB에 쓰기가 없을 때 마지막 재생 시각 기준으로 지연이 커지는 것을 방지)
+    // 복제 중이 아닌 서버(로컬 테스트용 단독 인스턴스 등)도 지연 0
+    private static final String LAG_SQL = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+
+    // 음수면 확인 전 또는 조회 실패
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLagMillis;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("읽기 복제본 복제 지연 (ms, 확인 실패 시 -1)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-millis:1000}")
+    public void check() {
+        try {
+            Number lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Number.class);
+            recordLag(lag != null ? lag.longValue() : 0);
+        } catch (DataAccessException e) {
+            if (lagMillis >= 0) {
+                log.warn("읽기 복제본 상태 확인 실패, 주 DB로 전환합니다: {}", e.getMessage());
+            }
+            lagMillis = -1;
+        }
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 복제본으로 보내도 되는지 여부
+     */
+    public boolean isUsable() {
+        long lag = lagMillis;
+        return lag >= 0 && lag <= maxLagMillis;
+    }
+
+    public long lagMillis() {
+        return lagMillis;
+    }
+
+    void recordLag(long lagMillis) {
+        if (lagMillis > maxLagMillis && this.lagMillis >= 0 && this.lagMillis <= maxLagMillis) {
+            log.warn("읽기 복제본 지연 {}ms가 허용치 {}ms를 넘어 주 DB로 전환합니다", lagMillis, maxLagMillis);
+        }
+        this.lagMillis = Math.max(lagMillis, 0);
+    }
+}
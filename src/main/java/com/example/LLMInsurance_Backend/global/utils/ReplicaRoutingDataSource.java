@@ -0,0 +1,104 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기 전용 커넥션을 복제본 또는 주 DB 중에서 골라 주는 DataSource
+ * 복제본이 지연되었거나, 현재 사용자가 방금 자기 정보를 변경했거나, onPrimary로 지정된 조회이면 주 DB를 사용한다
+ * toLazyProxy()로 만든 프록시가 트랜잭션의 readOnly 여부를 보고 첫 SQL 실행 시점에 이 DataSource를 사용한다
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter replicaCounter;
+    private final Counter lagFallbackCounter;
+    private final Counter readYourWritesCounter;
+    private final Counter pinnedCounter;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    DataSource replica,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaCounter = routedCounter(meterRegistry, "replica", "read-only");
+        this.lagFallbackCounter = routedCounter(meterRegistry, "primary", "replica-lag");
+        this.readYourWritesCounter = routedCounter(meterRegistry, "primary", "read-your-writes");
+        this.pinnedCounter = routedCounter(meterRegistry, "primary", "pinned");
+    }
+
+    /**
+     * 쓰기와 일반 커넥션은 주 DB로, 읽기 전용 트랜잭션은 이 DataSource로 보내는 프록시
+     * 트랜잭션 시작 시점이 아니라 첫 SQL 실행 시점에 실제 커넥션을 가져와야 readOnly 여부를 알 수 있음
+     */
+    public LazyConnectionDataSourceProxy toLazyProxy() {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(primary);
+        proxy.setReadOnlyDataSource(this);
+        // 기본값을 지정하지 않으면 확인용 커넥션을 기동 시점에 가져옴 (Hikari/PostgreSQL 기본값)
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return resolveTarget().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return resolveTarget().getConnection(username, password);
+    }
+
+    private DataSource resolveTarget() {
+        if (readYourWritesTracker.isPinnedToPrimary()) {
+            pinnedCounter.increment();
+            return primary;
+        }
+        if (!lagMonitor.isUsable()) {
+            lagFallbackCounter.increment();
+            return primary;
+        }
+        if (readYourWritesTracker.isRecentlyWritten(currentUserId())) {
+            readYourWritesCounter.increment();
+            return primary;
+        }
+        replicaCounter.increment();
+        return replica;
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.read-only.routing")
+                .description("읽기 전용 커넥션 요청을 보낸 대상")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
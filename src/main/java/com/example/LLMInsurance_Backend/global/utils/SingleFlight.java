@@ -0,0 +1,90 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 요청이 하나의 상위 호출을 공유하도록 묶음 (single-flight)
+ * 늦게 합류한 구독자도 처음부터의 결과를 받으며, 모든 구독자가 떠나면 상위 호출을 취소한다
+ */
+public final class SingleFlight<K, T> {
+
+    /**
+     * 호출 결과 (신규 호출 또는 진행 중인 호출에 합류)
+     */
+    public enum Outcome { LEADER, JOINED, REJECTED }
+
+    public interface Listener {
+        void onOutcome(Outcome outcome);
+    }
+
+    private final Map<K, Flight<T>> flights = new ConcurrentHashMap<>();
+    private final int maxSubscribersPerFlight;
+    private final Listener listener;
+
+    public SingleFlight(int maxSubscribersPerFlight, Listener listener) {
+        this.maxSubscribersPerFlight = maxSubscribersPerFlight;
+        this.listener = listener;
+    }
+
+    /**
+     * 진행 중인 같은 키의 호출이 있으면 합류하고, 없으면 call로 새 호출을 시작
+     * 합류 인원이 가득 찬 경우 구독 시점에 rejection 예외로 종료된다
+     */
+    public Flux<T> execute(K key, Supplier<? extends Publisher<T>> call, Supplier<? extends RuntimeException> rejection) {
+        return Flux.defer(() -> {
+            Flight<T> flight = flights.get(key);
+            Outcome outcome = Outcome.JOINED;
+            if (flight == null) {
+                Flight<T> created = new Flight<>();
+                // 구독 전까지는 아무 작업도 하지 않으므로 경쟁에서 진 Flight는 그대로 버려도 됨
+                created.shared = Flux.<T>defer(call)
+                        .doFinally(signal -> flights.remove(key, created))
+                        .replay()
+                        .refCount(1);
+                flight = flights.putIfAbsent(key, created);
+                if (flight == null) {
+                    flight = created;
+                    outcome = Outcome.LEADER;
+                }
+            }
+
+            if (!flight.tryJoin(maxSubscribersPerFlight)) {
+                listener.onOutcome(Outcome.REJECTED);
+                return Flux.error(rejection.get());
+            }
+            listener.onOutcome(outcome);
+            Flight<T> joined = flight;
+            return joined.shared.doFinally(signal -> joined.subscribers.decrementAndGet());
+        });
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private static final class Flight<T> {
+
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private volatile Flux<T> shared;
+
+        private boolean tryJoin(int max) {
+            int current;
+            do {
+                current = subscribers.get();
+                if (current >= max) {
+                    return false;
+                }
+            } while (!subscribers.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * 사용자별 현재 토큰 버전 (DB의 token_version을 짧은 TTL로 캐시)
+ * 로그아웃은 DB의 버전을 바로 올리므로, 다른 인스턴스도 TTL이 지나면 이전 버전 토큰을 거절한다
+ * 복제 지연으로 이전 버전을 읽지 않도록 항상 주 DB에서 조회
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private final UserRepository userRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 값이 비어 있으면 삭제된 사용자 (없는 사용자는 이후 가입할 수 있으므로 캐시하지 않음)
+    private final Cache<String, OptionalInt> currentVersions;
+
+    public TokenVersionRegistry(UserRepository userRepository,
+                                ReadYourWritesTracker readYourWritesTracker,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.revocation.max-size:100000}") long maxSize,
+                                @Value("${jwt.revocation.ttl-seconds:5}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.currentVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, currentVersions, "tokenVersions");
+    }
+
+    /**
+     * 토큰 버전이 현재 버전보다 낮거나, 사용자가 없거나 삭제되었으면 폐기된 토큰
+     */
+    public boolean isStale(String userId, int tokenVersion) {
+        OptionalInt current = currentVersions.get(userId, this::load);
+        return current == null || current.isEmpty() || tokenVersion < current.getAsInt();
+    }
+
+    /**
+     * DB에서 현재 버전을 다시 읽어 캐시 갱신 (로그아웃처럼 최신 값이 필요한 경우)
+     * 동시에 갱신되어도 더 오래된 값으로 덮어쓰지 않음
+     */
+    public OptionalInt refresh(String userId) {
+        OptionalInt loaded = load(userId);
+        if (loaded == null) {
+            return OptionalInt.empty();
+        }
+        return currentVersions.asMap().merge(userId, loaded, TokenVersionRegistry::newer);
+    }
+
+    /**
+     * 이미 DB에서 읽은 버전으로 캐시 갱신 (로그인처럼 같은 조회에서 버전을 함께 읽은 경우)
+     * 동시에 갱신되어도 더 오래된 값으로 덮어쓰지 않음
+     */
+    public void update(String userId, int tokenVersion) {
+        currentVersions.asMap().merge(userId, OptionalInt.of(tokenVersion), TokenVersionRegistry::newer);
+    }
+
+    // 현재 버전, 삭제된 사용자면 빈 값, 없는 사용자면 null (Caffeine은 null을 캐시하지 않음)
+    // 없는 사용자 확인은 활성 사용자 조회가 비었을 때만 한 번 더 조회
+    private OptionalInt load(String userId) {
+        return readYourWritesTracker.onPrimary(() -> {
+            Optional<UserAuthProjection> active = userRepository.findActiveAuthByUserId(userId);
+            if (active.isPresent()) {
+                return OptionalInt.of(active.get().tokenVersion());
+            }
+            return userRepository.existsByUserId(userId) ? OptionalInt.empty() : null;
+        });
+    }
+
+    // 버전은 증가만 하고, 삭제된 사용자는 다시 활성화되지 않음
+    private static OptionalInt newer(OptionalInt cached, OptionalInt loaded) {
+        if (cached.isEmpty() || loaded.isEmpty()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Math.max(cached.getAsInt(), loaded.getAsInt()));
+    }
+}
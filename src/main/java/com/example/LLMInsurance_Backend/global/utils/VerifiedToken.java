@@ -0,0 +1,20 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 토큰 정보 (불변)
+ */
+public record VerifiedToken(String subject,
+                            Instant issuedAt,
+                            Instant expiration,
+                            boolean deleted,
+                            int tokenVersion) {
+
+    /**
+     * 주어진 시각 기준으로 아직 만료되지 않았는지 확인
+     */
+    public boolean isValidAt(Instant now) {
+        return expiration == null || expiration.isAfter(now);
+    }
+}
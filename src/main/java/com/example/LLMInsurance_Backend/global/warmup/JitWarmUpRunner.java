@@ -0,0 +1,209 @@
+package com.example.LLMInsurance_Backend.global.warmup;
+
+import com.example.LLMInsurance_Backend.domain.dto.response.LoginResponseDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.ProfileResponseDto;
+import com.example.LLMInsurance_Backend.domain.entity.User;
+import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.service.PasswordHashingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 트래픽을 받기 전에 로그인 경로(JWT 발급/검증, BCrypt, 응답 직렬화)와 인증 필터, 읽기 전용 쿼리를 반복 실행하여 JIT 컴파일을 유도
+ * JIT 컴파일 시간이 라운드마다 거의 늘지 않으면(settle-rounds 연속) 종료하며, 끝날 때까지 WarmUpHealthIndicator가 OUT_OF_SERVICE를 보고한다
+ * ApplicationRunner는 Spring Boot가 ReadinessState.ACCEPTING_TRAFFIC을 발행하기 전에 실행된다
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class JitWarmUpRunner implements ApplicationRunner {
+
+    // 실제 사용자 ID 형식(영문/숫자)과 겹치지 않는 가상 사용자
+    private static final String WARM_UP_USER_ID = "__warmup__";
+
+    private final JwtTokenUtil jwtTokenUtil;
+    private final PasswordHashingService passwordHashingService;
+    private final ObjectMapper objectMapper;
+    private final Environment environment;
+    private final WarmUpRequestMarker warmUpRequestMarker;
+    private final boolean enabled;
+    private final Duration maxDuration;
+    private final int iterationsPerRound;
+    private final int httpRequestsPerRound;
+    private final int bcryptIterations;
+    private final long settleThresholdMillis;
+    private final int settleRounds;
+
+    private volatile WarmUpResult result;
+
+    // 200이 아닌 응답을 받으면 이후 라운드의 HTTP 예열을 중단 (오류 경로를 예열하지 않도록)
+    private HttpClient httpClient;
+
+    public JitWarmUpRunner(JwtTokenUtil jwtTokenUtil,
+                           PasswordHashingService passwordHashingService,
+                           ObjectMapper objectMapper,
+                           Environment environment,
+                           WarmUpRequestMarker warmUpRequestMarker,
+                           @Value("${warm-up.enabled:false}") boolean enabled,
+                           @Value("${warm-up.max-duration-seconds:30}") long maxDurationSeconds,
+                           @Value("${warm-up.iterations-per-round:200}") int iterationsPerRound,
+                           @Value("${warm-up.http-requests-per-round:20}") int httpRequestsPerRound,
+                           @Value("${warm-up.bcrypt-iterations:2}") int bcryptIterations,
+                           @Value("${warm-up.settle-threshold-millis:10}") long settleThresholdMillis,
+                           @Value("${warm-up.settle-rounds:3}") int settleRounds) {
+        this.jwtTokenUtil = jwtTokenUtil;
+        this.passwordHashingService = passwordHashingService;
+        this.objectMapper = objectMapper;
+        this.environment = environment;
+        this.warmUpRequestMarker = warmUpRequestMarker;
+        this.enabled = enabled;
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+        this.iterationsPerRound = iterationsPerRound;
+        this.httpRequestsPerRound = httpRequestsPerRound;
+        this.bcryptIterations = bcryptIterations;
+        this.settleThresholdMillis = settleThresholdMillis;
+        this.settleRounds = settleRounds;
+        this.result = enabled ? null : WarmUpResult.disabled();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDuration.toNanos();
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean compileTimeSupported = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compileMillisAtStart = compileTimeSupported ? compiler.getTotalCompilationTime() : 0;
+
+        int rounds = 0;
+        boolean settled = false;
+        httpClient = localServerClient();
+        try {
+            for (int i = 0; i < bcryptIterations; i++) {
+                passwordHashingService.matchesDummy("warm-up-password");
+            }
+
+            Fixture fixture = new Fixture();
+            long lastCompileMillis = compileTimeSupported ? compiler.getTotalCompilationTime() : 0;
+            int stableRounds = 0;
+
+            while (System.nanoTime() < deadline && !settled) {
+                runRound(fixture, rounds);
+                rounds++;
+
+                // 컴파일 시간을 알 수 없으면 최대 시간까지 실행
+                if (compileTimeSupported) {
+                    long compileMillis = compiler.getTotalCompilationTime();
+                    stableRounds = compileMillis - lastCompileMillis <= settleThresholdMillis ? stableRounds + 1 : 0;
+                    lastCompileMillis = compileMillis;
+                    settled = stableRounds >= settleRounds;
+                }
+            }
+        } catch (Exception e) {
+            // 예열 실패로 인스턴스가 준비되지 않는 일이 없도록 경고만 남기고 종료
+            log.warn("JIT 예열 중 오류가 발생하여 중단합니다", e);
+        }
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        long compileMillis = compileTimeSupported ? compiler.getTotalCompilationTime() - compileMillisAtStart : -1;
+        result = new WarmUpResult(true, rounds, settled, elapsedMillis, compileMillis);
+        log.info("JIT 예열 완료: {}라운드, {}ms, 컴파일 {}ms, 안정화 {}", rounds, elapsedMillis, compileMillis, settled);
+    }
+
+    /**
+     * 예열 결과 (진행 중이면 null)
+     */
+    public WarmUpResult result() {
+        return result;
+    }
+
+    private void runRound(Fixture fixture, int round) throws IOException, InterruptedException {
+        for (int i = 0; i < iterationsPerRound; i++) {
+            String token = jwtTokenUtil.generateToken(WARM_UP_USER_ID, false, round);
+            jwtTokenUtil.verifyToken(token);
+            objectMapper.writeValueAsBytes(fixture.loginResponse(token));
+            objectMapper.writeValueAsBytes(ProfileResponseDto.from(fixture.user));
+        }
+
+        if (httpClient == null) {
+            return;
+        }
+        // 실제 요청 경로: 요청 필터 → 인증 필터 → 컨트롤러 → 읽기 전용 쿼리 (커넥션 풀도 함께 채워짐)
+        // 가상 사용자는 DB에 없어 토큰을 보내면 폐기된 토큰으로 처리되므로 토큰 없이 요청 (JWT 검증은 위에서 예열)
+        for (int i = 0; i < httpRequestsPerRound; i++) {
+            HttpRequest request = HttpRequest.newBuilder(fixture.checkUserIdUri)
+                    .header(WarmUpRequestMarker.HEADER, warmUpRequestMarker.token())
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                log.warn("JIT 예열 요청이 {} 응답을 받아 HTTP 예열을 중단합니다: {}", response.statusCode(), request.uri());
+                httpClient = null;
+                return;
+            }
+        }
+    }
+
+    // 테스트처럼 웹 서버 없이 실행되면 HTTP 예열은 생략
+    private HttpClient localServerClient() {
+        if (httpRequestsPerRound <= 0 || environment.getProperty("local.server.port") == null) {
+            return null;
+        }
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+    }
+
+    private final class Fixture {
+
+        private final User user = User.builder()
+                .userId(WARM_UP_USER_ID)
+                .email("warmup@example.com")
+                .name("예열")
+                .phoneNumber("010-0000-0000")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender("남")
+                .job("예열")
+                .diseases(new String[]{"고혈압"})
+                .subscriptions(new String[]{"실손보험"})
+                .build();
+
+        private final URI checkUserIdUri = URI.create("http://127.0.0.1:"
+                + environment.getProperty("local.server.port", "8080") + "/api/v1/auth/check-userid/" + WARM_UP_USER_ID);
+
+        private LoginResponseDto loginResponse(String token) {
+            return LoginResponseDto.of(token, user.getUserId(), user.getEmail(), user.getName(), user.getPhoneNumber(),
+                    user.getBirthDate(), user.getGender(), user.isMarried(), user.getJob(),
+                    user.getDiseases(), user.getSubscriptions(), true);
+        }
+    }
+
+    public record WarmUpResult(boolean enabled, int rounds, boolean settled, long elapsedMillis, long compileMillis) {
+
+        static WarmUpResult disabled() {
+            return new WarmUpResult(false, 0, false, 0, 0);
+        }
+    }
+}
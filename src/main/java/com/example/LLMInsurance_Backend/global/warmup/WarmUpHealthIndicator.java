@@ -0,0 +1,35 @@
+package com.example.LLMInsurance_Backend.global.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * JIT 예열 상태 (health 구성 요소 이름: warmUp, readiness 그룹에 포함)
+ * 예열이 끝나기 전에는 OUT_OF_SERVICE를 보고하여 트래픽을 받지 않게 한다
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final JitWarmUpRunner warmUpRunner;
+
+    @Override
+    public Health health() {
+        JitWarmUpRunner.WarmUpResult result = warmUpRunner.result();
+        if (result == null) {
+            return Health.outOfService().withDetail("state", "running").build();
+        }
+        if (!result.enabled()) {
+            return Health.up().withDetail("state", "disabled").build();
+        }
+        return Health.up()
+                .withDetail("state", "completed")
+                .withDetail("rounds", result.rounds())
+                .withDetail("settled", result.settled())
+                .withDetail("elapsedMillis", result.elapsedMillis())
+                .withDetail("compileMillis", result.compileMillis())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.LLMInsurance_Backend.global.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * JIT 예열 요청 식별 (기동할 때 만든 임의 값을 헤더로 보내고, 루프백 주소에서 온 요청만 인정)
+ * 예열 요청이 IP 기준 요청 제한을 소모하여 429를 받지 않도록 RateLimitFilter에서 제외하는 데 사용한다
+ */
+@Component
+public class WarmUpRequestMarker {
+
+    public static final String HEADER = "X-Warm-Up-Token";
+
+    private final byte[] token;
+
+    public WarmUpRequestMarker() {
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(random).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public String token() {
+        return new String(token, StandardCharsets.US_ASCII);
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        return value != null
+                && isLoopback(request.getRemoteAddr())
+                && MessageDigest.isEqual(value.getBytes(StandardCharsets.US_ASCII), token);
+    }
+
+    // 원격 주소는 항상 IP 문자열이므로 DNS 조회 없이 비교
+    private static boolean isLoopback(String address) {
+        return address != null
+                && (address.startsWith("127.") || address.equals("::1") || address.equals("0:0:0:0:0:0:0:1"));
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.LLMInsurance_Backend.service;
 
-import com.example.LLMInsurance_Backend.domain.entity.User;
-import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+import com.example.LLMInsurance_Backend.global.cache.UserSnapshotCache;
+import com.example.LLMInsurance_Backend.global.utils.TokenVersionRegistry;
+import com.example.LLMInsurance_Backend.global.utils.VerifiedToken;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,20 +18,50 @@ import java.util.ArrayList;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
 
+    // 토큰 클레임만으로 인증 주체를 구성할지 여부
+    @Value("${jwt.claims-auth.enabled:true}")
+    private boolean claimsAuthEnabled;
+
+    // 캐시에는 삭제되지 않은 사용자만 적재됨
     @Override
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
-        User user = userRepository.findByUserId(userId)
+        UserSnapshot user = userSnapshotCache.get(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
 
-        if (user.isDeleted()) {
+        return buildUserDetails(user.userId(), user.password());
+    }
+
+    /**
+     * 검증된 토큰으로 인증 주체 생성
+     * 클레임 인증 모드에서는 사용자 정보를 읽지 않고 토큰 버전만 확인 (짧은 TTL로 캐시된 DB 값과 비교)
+     */
+    public UserDetails loadUserByVerifiedToken(VerifiedToken token) {
+        String userId = token.subject();
+
+        // 다른 인스턴스에서 로그아웃한 토큰도 거절되도록 DB의 현재 버전과 비교 (없거나 삭제된 사용자 포함)
+        if (tokenVersionRegistry.isStale(userId, token.tokenVersion())) {
+            throw new BadCredentialsException("폐기된 토큰입니다: " + userId);
+        }
+
+        if (!claimsAuthEnabled) {
+            return loadUserByUsername(userId);
+        }
+
+        if (token.deleted()) {
             throw new UsernameNotFoundException("삭제된 사용자입니다: " + userId);
         }
 
+        // 토큰 인증 이후에는 비밀번호가 필요 없으므로 비워둠
+        return buildUserDetails(userId, "");
+    }
+
+    private UserDetails buildUserDetails(String userId, String password) {
         return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUserId())
-                .password(user.getPassword())
+                .username(userId)
+                .password(password)
                 .authorities(new ArrayList<>()) // 필요시 권한 추가
                 .accountExpired(false)
                 .accountLocked(false)
@@ -35,4 +69,4 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .disabled(false)
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.global.exception.ServiceOverloadedException;
+import com.example.LLMInsurance_Backend.global.utils.BCryptStrengthCalibrator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 해시/검증을 요청 스레드가 아닌 전용 스레드 풀에서 수행
+ * 대기열이 가득 차면 즉시 ServiceOverloadedException(503)으로 거절한다
+ */
+@Slf4j
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final long retryAfterSeconds;
+
+    // 현재 설정된 cost, 저장된 해시의 cost가 더 낮으면 다음 로그인 시 재해시
+    private final int targetStrength;
+
+    // 존재하지 않는 사용자 로그인 시 비교용 해시 (실제 사용자와 같은 cost로 검증 시간을 맞춤)
+    private final String dummyHash;
+
+    // 대량 해시가 동시에 점유할 수 있는 작업 수 (나머지는 로그인/회원가입용으로 남겨둠)
+    private final Semaphore bulkPermits;
+
+    // 해시 계산 시간과 풀 대기 시간을 나눠서 측정 (느린 로그인이 CPU 때문인지 대기열 때문인지 구분)
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer bulkEncodeTimer;
+    private final Timer queueWaitTimer;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${bcrypt.pool.threads:0}") int threads,
+                                  @Value("${bcrypt.pool.queue-capacity:64}") int queueCapacity,
+                                  @Value("${bcrypt.pool.timeout-millis:5000}") long timeoutMillis,
+                                  @Value("${bcrypt.pool.retry-after-seconds:1}") long retryAfterSeconds,
+                                  @Value("${bcrypt.pool.bulk-max-in-flight:0}") int bulkMaxInFlight) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-unknown-users");
+        this.targetStrength = BCryptStrengthCalibrator.strengthOf(dummyHash);
+        this.bulkPermits = new Semaphore(bulkMaxInFlight > 0 ? bulkMaxInFlight : Math.max(1, poolSize / 2));
+
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.bulkEncodeTimer = hashTimer(meterRegistry, "bulk-encode");
+        this.queueWaitTimer = Timer.builder("bcrypt.queue.wait")
+                .description("BCrypt 작업이 전용 풀에서 실행되기까지 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        // 풀 활성 스레드 수, 대기열 길이 등 (executor.active, executor.queued ...)
+        new ExecutorServiceMetrics(executor, "bcrypt", Tags.empty()).bindTo(meterRegistry);
+
+        log.info("BCrypt 전용 스레드 풀 생성: threads={}, queueCapacity={}, cost={}",
+                poolSize, queueCapacity, targetStrength);
+    }
+
+    /**
+     * 비밀번호 암호화
+     */
+    public String encode(String rawPassword) {
+        return execute(timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 여러 비밀번호를 병렬로 암호화 (입력 순서대로 반환)
+     * 대기열을 독점하지 않도록 동시 작업 수를 제한하며, 풀이 가득 차면 호출 스레드에서 직접 처리한다
+     */
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            futures.add(submitBulk(timed(bulkEncodeTimer, () -> passwordEncoder.encode(rawPassword))));
+        }
+        List<String> encoded = new ArrayList<>(futures.size());
+        for (CompletableFuture<String> future : futures) {
+            encoded.add(await(future));
+        }
+        return encoded;
+    }
+
+    /**
+     * 비밀번호 검증
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 존재하지 않는 사용자에 대해 실제 검증과 같은 시간이 걸리도록 더미 해시와 비교 (결과는 항상 실패)
+     */
+    public void matchesDummy(String rawPassword) {
+        execute(timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, dummyHash)));
+    }
+
+    /**
+     * 저장된 해시의 cost가 현재 설정보다 낮은지 확인
+     * 인스턴스마다 cost가 다를 수 있으므로 낮추지는 않음 (인스턴스를 오갈 때마다 재해시가 반복되지 않게)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int strength = BCryptStrengthCalibrator.strengthOf(encodedPassword);
+        return strength > 0 && strength < targetStrength;
+    }
+
+    // 제출 시점부터 실행 시작까지는 대기 시간, 실행 시작부터 종료까지는 해시 시간으로 기록
+    private <T> Callable<T> timed(Timer timer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            queueWaitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+            try {
+                return task.call();
+            } finally {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("bcrypt.hash")
+                .description("BCrypt 해시/검증 계산 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw overloaded();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private <T> CompletableFuture<T> submitBulk(Callable<T> task) {
+        try {
+            bulkPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable job = () -> {
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                bulkPermits.release();
+            }
+        };
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            // 로그인 요청이 몰려 풀이 가득 찬 경우 대량 작업은 거절하지 않고 호출 스레드가 처리
+            job.run();
+        }
+        return future;
+    }
+
+    // 대량 작업은 대기 시간이 길 수 있으므로 타임아웃 없이 완료를 기다림
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 추천 프롬프트에 들어가는 사용자 특성 (나이는 10세 단위 구간으로 묶음)
+ * 같은 특성을 가진 사용자는 같은 프롬프트와 같은 캐시 키를 사용한다
+ */
+public record RecommendationFeatures(int ageBand,
+                                     String gender,
+                                     boolean married,
+                                     String job,
+                                     List<String> diseases,
+                                     List<String> subscriptions) {
+
+    public static RecommendationFeatures from(UserSnapshot user, LocalDate today) {
+        int age = Period.between(user.birthDate(), today).getYears();
+        return new RecommendationFeatures(
+                Math.max(age, 0) / 10 * 10,
+                user.gender(),
+                user.married(),
+                normalize(user.job()),
+                normalizeAll(user.diseases()),
+                normalizeAll(user.subscriptions()));
+    }
+
+    /**
+     * 프롬프트 템플릿 버전을 포함한 캐시 키
+     */
+    public String cacheKey(String promptVersion) {
+        return String.join("|",
+                promptVersion,
+                String.valueOf(ageBand),
+                Objects.toString(gender, ""),
+                married ? "M" : "S",
+                job,
+                String.join(",", diseases),
+                String.join(",", subscriptions));
+    }
+
+    // 공백 정리 및 소문자 변환
+    private static String normalize(String value) {
+        return value == null ? "" : value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 정규화 후 중복 제거 및 정렬
+    private static List<String> normalizeAll(String[] values) {
+        if (values == null) {
+            return List.of();
+        }
+        return Arrays.stream(values)
+                .map(RecommendationFeatures::normalize)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
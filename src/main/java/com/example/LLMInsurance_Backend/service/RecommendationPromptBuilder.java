@@ -0,0 +1,45 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatMessage;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자 특성으로 보험 추천 프롬프트 생성
+ * 프롬프트 내용을 바꾸면 캐시된 응답이 재사용되지 않도록 PROMPT_VERSION을 올려야 한다
+ */
+@Component
+public class RecommendationPromptBuilder {
+
+    public static final String PROMPT_VERSION = "v1";
+
+    private static final String SYSTEM_PROMPT = """
+            당신은 한국의 보험 상담 전문가입니다.
+            고객 정보를 바탕으로 가입을 고려할 만한 보험 상품 유형을 3개 이내로 추천하고, 각각의 추천 이유를 간단히 설명하세요.
+            이미 가입한 상품과 겹치는 보장은 추천하지 말고, 보유 질환이 있으면 가입 가능성(유병자 보험 등)도 함께 안내하세요.
+            특정 보험사의 상품명은 언급하지 마세요.""";
+
+    public List<ChatMessage> build(RecommendationFeatures features) {
+        String profile = """
+                고객 정보
+                - 나이대: %d대
+                - 성별: %s
+                - 결혼 여부: %s
+                - 직업: %s
+                - 보유 질환: %s
+                - 가입 중인 보험: %s"""
+                .formatted(
+                        features.ageBand(),
+                        features.gender(),
+                        features.married() ? "기혼" : "미혼",
+                        features.job(),
+                        join(features.diseases()),
+                        join(features.subscriptions()));
+        return List.of(ChatMessage.system(SYSTEM_PROMPT), ChatMessage.user(profile));
+    }
+
+    private static String join(List<String> values) {
+        return values.isEmpty() ? "없음" : String.join(", ", values);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+import com.example.LLMInsurance_Backend.global.cache.RecommendationCache;
+import com.example.LLMInsurance_Backend.global.cache.UserSnapshotCache;
+import com.example.LLMInsurance_Backend.global.openai.OpenAiClient;
+import com.example.LLMInsurance_Backend.global.openai.OpenAiRequestCoalescer;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionChunk;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자 프로필 기반 보험 추천
+ * 특성이 같은 사용자(나이대, 성별, 결혼 여부, 직업, 질환, 가입 상품)는 캐시된 응답을 공유하고,
+ * 캐시가 비어 있을 때 동시에 들어온 요청은 하나의 OpenAI 호출을 공유한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private static final String FINISH_REASON_STOP = "stop";
+
+    private final UserSnapshotCache userSnapshotCache;
+    private final RecommendationPromptBuilder recommendationPromptBuilder;
+    private final RecommendationCache recommendationCache;
+    private final OpenAiClient openAiClient;
+    private final OpenAiRequestCoalescer openAiRequestCoalescer;
+
+    /**
+     * 추천 응답을 생성되는 대로 조각 단위로 반환
+     * 사용자 조회는 호출 시점에 수행하므로 없는 사용자는 스트림 시작 전에 예외가 발생한다
+     */
+    public Flux<ChatCompletionChunk> streamRecommendation(String userId) {
+        UserSnapshot user = userSnapshotCache.get(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+
+        RecommendationFeatures features = RecommendationFeatures.from(user, LocalDate.now());
+        String cacheKey = features.cacheKey(RecommendationPromptBuilder.PROMPT_VERSION);
+
+        Flux<ChatCompletionChunk> cached = recommendationCache.get(cacheKey)
+                .map(recommendation -> Flux.just(ChatCompletionChunk.completed(recommendation.content(), null)))
+                .orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
+        ChatCompletionRequest request = ChatCompletionRequest.of(null, recommendationPromptBuilder.build(features));
+        return openAiRequestCoalescer.streamChatCompletion(cacheKey, () -> Flux.defer(() -> {
+                    CompletionCollector collector = new CompletionCollector();
+                    return openAiClient.streamChatCompletion(request)
+                            .doOnNext(collector::append)
+                            .doOnComplete(() -> collector.cacheIfFinished(cacheKey));
+                }))
+                .doOnCancel(() -> log.info("사용자 {}의 추천 스트림이 클라이언트 종료로 취소되었습니다", userId));
+    }
+
+    // 스트리밍 중인 응답을 모아 정상 종료된 경우에만 캐시에 저장
+    private final class CompletionCollector {
+
+        private final StringBuilder content = new StringBuilder();
+        private String finishReason;
+        private int totalTokens;
+
+        private void append(ChatCompletionChunk chunk) {
+            content.append(chunk.contentDelta());
+            if (chunk.finishReason() != null) {
+                finishReason = chunk.finishReason();
+            }
+            if (chunk.usage() != null) {
+                totalTokens = chunk.usage().totalTokens();
+            }
+        }
+
+        // 길이 제한 등으로 잘린 응답은 저장하지 않음
+        private void cacheIfFinished(String cacheKey) {
+            if (FINISH_REASON_STOP.equals(finishReason) && !content.isEmpty()) {
+                recommendationCache.put(cacheKey, content.toString(), totalTokens);
+            }
+        }
+    }
+}
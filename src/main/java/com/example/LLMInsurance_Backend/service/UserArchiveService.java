@@ -0,0 +1,102 @@
+package com.example.LLMInsurance_Backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오래전에 삭제된 사용자를 보관 테이블(app_users_archive)로 옮겨 사용자 테이블을 작게 유지
+ * 한 배치를 하나의 SQL 문으로 옮기므로 중간에 실패해도 행이 사라지거나 중복되지 않는다
+ * DELETE ... RETURNING을 사용하므로 PostgreSQL에서만 동작 (prod에서만 활성화)
+ */
+@Slf4j
+@Service
+public class UserArchiveService {
+
+    private static final String COLUMNS = "uuid, user_id, password, email, name, phone_number, birth_date, gender, "
+            + "is_married, job, diseases, subscriptions, created_at, modified_at, is_login, is_deleted, "
+            + "token_version, deleted_at";
+
+    // 여러 인스턴스가 동시에 실행해도 SKIP LOCKED로 서로 다른 행을 옮김
+    private static final String ARCHIVE_SQL = "WITH moved AS ("
+            + "DELETE FROM app_users WHERE uuid IN ("
+            + "SELECT uuid FROM app_users WHERE is_deleted = true AND deleted_at < ? "
+            + "ORDER BY deleted_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING " + COLUMNS + ") "
+            + "INSERT INTO app_users_archive (" + COLUMNS + ") SELECT " + COLUMNS + " FROM moved";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter archivedCounter;
+    private final Timer runTimer;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public UserArchiveService(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${user-archive.enabled:false}") boolean enabled,
+                              @Value("${user-archive.retention-days:90}") long retentionDays,
+                              @Value("${user-archive.batch-size:1000}") int batchSize,
+                              @Value("${user-archive.max-batches-per-run:100}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+
+        this.archivedCounter = Counter.builder("user.archive.moved")
+                .description("보관 테이블로 옮긴 삭제된 사용자 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("user.archive.run")
+                .description("삭제된 사용자 보관 작업 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${user-archive.interval-millis:3600000}",
+            initialDelayString = "${user-archive.interval-millis:3600000}")
+    public void archiveOnSchedule() {
+        if (enabled) {
+            archiveDeletedUsers();
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 삭제된 사용자를 배치 단위로 이동하고 옮긴 수를 반환
+     * 한 번 실행에 최대 max-batches-per-run 배치까지만 처리하고 나머지는 다음 주기에 처리
+     */
+    public int archiveDeletedUsers() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+        long startedAt = System.nanoTime();
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int moved = jdbcTemplate.update(ARCHIVE_SQL, cutoff, batchSize);
+                total += moved;
+                archivedCounter.increment(moved);
+                if (moved < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("삭제된 사용자 보관 실패, 다음 주기에 재시도합니다 (이번 실행에서 {}건 이동)", total, e);
+        } finally {
+            runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (total > 0) {
+            log.info("삭제된 사용자 {}건을 보관 테이블로 옮겼습니다 (삭제 시각 {} 이전)", total, cutoff);
+        }
+        return total;
+    }
+}
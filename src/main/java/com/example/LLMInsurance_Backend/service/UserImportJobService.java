@@ -0,0 +1,234 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.response.UserImportJobResponseDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.UserImportResponseDto;
+import com.example.LLMInsurance_Backend.domain.entity.UserImportJob;
+import com.example.LLMInsurance_Backend.domain.repository.UserImportJobRepository;
+import com.example.LLMInsurance_Backend.global.exception.ServiceOverloadedException;
+import com.example.LLMInsurance_Backend.service.UserImportService.ImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 대량 가입을 비동기 작업으로 실행
+ * 업로드는 요청 안에서 임시 파일로 받아 두고 바로 작업 ID를 응답하며, 가입 처리는 작업 스레드에서 진행한다
+ * (수만 건을 해시하면 Cloud Run 요청 시간 제한을 넘으므로 요청 스레드에서 처리하지 않음)
+ */
+@Slf4j
+@Service
+public class UserImportJobService implements DisposableBean {
+
+    private static final String SHUTDOWN_MESSAGE = "서버 종료로 작업이 중단되었습니다. 가입되지 않은 행만 다시 업로드해주세요.";
+
+    private final UserImportService userImportService;
+    private final UserImportJobRepository userImportJobRepository;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final long maxUploadBytes;
+    private final long retryAfterSeconds;
+
+    // 임시 업로드 파일 수 제한 (실행 중 1개 + 대기 max-queued-jobs개)
+    // Cloud Run의 임시 파일은 컨테이너 메모리를 사용하므로 최대 (max-queued-jobs + 1) * max-upload-bytes만 사용
+    private final Semaphore uploadSlots;
+
+    // 이 인스턴스에서 아직 끝나지 않은 작업 (종료 시 실패로 기록)
+    private final Set<UUID> unfinishedJobs = ConcurrentHashMap.newKeySet();
+
+    public UserImportJobService(UserImportService userImportService,
+                                UserImportJobRepository userImportJobRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${user-import.max-queued-jobs:2}") int maxQueuedJobs,
+                                @Value("${user-import.max-upload-bytes:16777216}") long maxUploadBytes,
+                                @Value("${user-import.retry-after-seconds:60}") long retryAfterSeconds) {
+        this.userImportService = userImportService;
+        this.userImportJobRepository = userImportJobRepository;
+        this.objectMapper = objectMapper;
+        this.maxUploadBytes = maxUploadBytes;
+        this.retryAfterSeconds = retryAfterSeconds;
+        int slots = Math.max(1, maxQueuedJobs) + 1;
+        this.uploadSlots = new Semaphore(slots);
+        // 해시 풀을 로그인과 나눠 쓰므로 작업은 인스턴스당 하나씩만 실행
+        // 대기 작업 수는 uploadSlots로 제한하고, 대기열은 끝난 작업이 스레드를 비우기 전에 들어온 작업도 받도록 여유를 둠
+        this.executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(slots),
+                new CustomizableThreadFactory("user-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 업로드를 임시 파일로 받아 작업을 등록하고 작업 정보를 반환
+     * 실행 중이거나 대기 중인 작업이 가득 차 있으면 업로드를 받기 전에 거절
+     */
+    public UserImportJobResponseDto submit(InputStream body, ImportFormat format, String requesterId) {
+        if (!uploadSlots.tryAcquire()) {
+            throw overloaded();
+        }
+
+        Path upload = null;
+        boolean submitted = false;
+        try {
+            upload = spool(body);
+            UserImportJob job = userImportJobRepository.save(UserImportJob.builder()
+                    .requestedBy(requesterId)
+                    .status(UserImportJob.Status.PENDING)
+                    .build());
+            UUID jobId = job.getId();
+
+            Path jobUpload = upload;
+            unfinishedJobs.add(jobId);
+            try {
+                executor.execute(() -> run(jobId, jobUpload, format));
+            } catch (RejectedExecutionException e) {
+                // 대기열은 uploadSlots보다 크므로 종료 중에만 발생
+                unfinishedJobs.remove(jobId);
+                userImportJobRepository.finish(jobId, UserImportJob.Status.FAILED, 0, 0, 0, null, false,
+                        SHUTDOWN_MESSAGE);
+                throw overloaded();
+            }
+            submitted = true;
+
+            log.info("사용자 대량 가입 작업 등록: {} (요청자 {})", jobId, requesterId);
+            return toResponse(job);
+        } finally {
+            if (!submitted) {
+                deleteQuietly(upload);
+                uploadSlots.release();
+            }
+        }
+    }
+
+    /**
+     * 작업 상태와 결과 조회 (다른 인스턴스에서 실행 중인 작업 포함)
+     */
+    public Optional<UserImportJobResponseDto> find(UUID jobId) {
+        return userImportJobRepository.findById(jobId).map(this::toResponse);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        if (!unfinishedJobs.isEmpty()) {
+            log.warn("종료로 중단된 사용자 대량 가입 작업: {}", unfinishedJobs);
+            userImportJobRepository.finishUnfinished(List.copyOf(unfinishedJobs),
+                    UserImportJob.Status.FAILED, SHUTDOWN_MESSAGE);
+        }
+    }
+
+    private void run(UUID jobId, Path upload, ImportFormat format) {
+        try (InputStream inputStream = Files.newInputStream(upload)) {
+            userImportJobRepository.updateProgress(jobId, UserImportJob.Status.RUNNING, 0, 0, 0);
+            UserImportResponseDto result = userImportService.importUsers(inputStream, format, progress ->
+                    userImportJobRepository.updateProgress(jobId, UserImportJob.Status.RUNNING,
+                            progress.getTotalRows(), progress.getImportedCount(), progress.getFailedCount()));
+            userImportJobRepository.finish(jobId, UserImportJob.Status.COMPLETED,
+                    result.getTotalRows(), result.getImportedCount(), result.getFailedCount(),
+                    objectMapper.writeValueAsString(result.getErrors()), result.isErrorsTruncated(), null);
+        } catch (Exception e) {
+            log.error("사용자 대량 가입 작업 실패: {}", jobId, e);
+            // 처리한 행 수는 마지막 진행 상황 기록을 그대로 유지
+            userImportJobRepository.finishUnfinished(List.of(jobId), UserImportJob.Status.FAILED,
+                    "작업 중 오류가 발생했습니다. 가입되지 않은 행만 다시 업로드해주세요.");
+        } finally {
+            unfinishedJobs.remove(jobId);
+            deleteQuietly(upload);
+            uploadSlots.release();
+        }
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("진행 중인 사용자 대량 가입 작업이 많습니다. 잠시 후 다시 시도해주세요.",
+                retryAfterSeconds);
+    }
+
+    // 업로드 크기를 제한하며 임시 파일로 복사 (Cloud Run의 임시 파일은 메모리를 사용하므로 크기 제한이 곧 메모리 상한)
+    private Path spool(InputStream body) {
+        Path upload = null;
+        try {
+            upload = Files.createTempFile("user-import-", ".upload");
+            try (OutputStream out = Files.newOutputStream(upload)) {
+                byte[] buffer = new byte[8192];
+                long total = 0;
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    total += read;
+                    if (total > maxUploadBytes) {
+                        throw new IllegalArgumentException("업로드 파일은 " + maxUploadBytes + "바이트 이하여야 합니다.");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return upload;
+        } catch (IOException e) {
+            deleteQuietly(upload);
+            throw new UncheckedIOException("업로드 파일을 읽는 중 오류가 발생했습니다.", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(upload);
+            throw e;
+        }
+    }
+
+    private UserImportJobResponseDto toResponse(UserImportJob job) {
+        return UserImportJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(job.getStatus().name())
+                .result(UserImportResponseDto.builder()
+                        .totalRows(job.getTotalRows())
+                        .importedCount(job.getImportedCount())
+                        .failedCount(job.getFailedCount())
+                        .errors(readErrors(job.getErrors()))
+                        .errorsTruncated(job.isErrorsTruncated())
+                        .build())
+                .failureMessage(job.getFailureMessage())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private List<UserImportResponseDto.RowError> readErrors(String errors) {
+        if (errors == null) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(errors, new TypeReference<>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("작업 결과를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
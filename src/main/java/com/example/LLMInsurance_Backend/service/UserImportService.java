@@ -0,0 +1,366 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.request.SignupRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.UserImportResponseDto;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.global.cache.UserIdMembershipIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * NDJSON/CSV 업로드로 사용자를 대량 가입
+ * 파일을 한 줄씩 읽어 chunk 단위로 중복 확인, 병렬 해시, 배치 INSERT를 수행하므로 파일 크기와 무관하게 메모리 사용량이 일정하다
+ * 시간이 오래 걸리므로 요청 스레드가 아닌 UserImportJobService의 작업 스레드에서 실행한다
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public enum ImportFormat { NDJSON, CSV }
+
+    private static final String INSERT_SQL = "INSERT INTO app_users (uuid, user_id, password, email, name, phone_number, "
+            + "birth_date, gender, is_married, job, diseases, subscriptions, created_at, modified_at, "
+            + "is_login, is_deleted, token_version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false, false, 0)";
+
+    // CSV 배열 컬럼(diseases, subscriptions)의 값 구분자
+    private static final String CSV_ARRAY_DELIMITER = "\\|";
+    private static final Set<String> CSV_ARRAY_COLUMNS = Set.of("diseases", "subscriptions");
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UserIdMembershipIndex userIdMembershipIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Set<String> allowedUserIds;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public UserImportService(UserRepository userRepository,
+                             PasswordHashingService passwordHashingService,
+                             UserIdMembershipIndex userIdMembershipIndex,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${user-import.allowed-user-ids:}") List<String> allowedUserIds,
+                             @Value("${user-import.chunk-size:500}") int chunkSize,
+                             @Value("${user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.userIdMembershipIndex = userIdMembershipIndex;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.allowedUserIds = allowedUserIds.stream()
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 업로드 권한 확인 (설정된 관리자 ID만 허용)
+     */
+    public void checkPermission(String requesterId) {
+        if (!allowedUserIds.contains(requesterId)) {
+            throw new AccessDeniedException("사용자 대량 가입 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 업로드된 파일의 사용자를 가입시키고 행 단위 오류 목록을 반환
+     * chunk를 처리할 때마다 지금까지의 처리 건수(오류 목록 제외)를 onProgress로 전달
+     */
+    public UserImportResponseDto importUsers(InputStream inputStream, ImportFormat format,
+                                             Consumer<UserImportResponseDto> onProgress) {
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String[] csvHeader = null;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (format == ImportFormat.CSV && csvHeader == null) {
+                    csvHeader = parseCsvLine(line);
+                    continue;
+                }
+
+                report.totalRows++;
+                SignupRequestDto dto;
+                try {
+                    dto = format == ImportFormat.CSV ? readCsvRow(csvHeader, line) : readJsonRow(line);
+                } catch (IOException | IllegalArgumentException e) {
+                    report.fail(lineNumber, null, "형식이 올바르지 않습니다.");
+                    continue;
+                }
+
+                String violation = validate(dto);
+                if (violation != null) {
+                    report.fail(lineNumber, dto.getUserId(), violation);
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, dto));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                    onProgress.accept(report.toProgress());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 읽는 중 오류가 발생했습니다.", e);
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        log.info("사용자 대량 가입 완료: 전체 {}건, 성공 {}건, 실패 {}건",
+                report.totalRows, report.importedCount, report.failedCount);
+        return report.toResponse();
+    }
+
+    private void importChunk(List<ImportRow> chunk, ImportReport report) {
+        // 파일 내 중복 제거 (이전 chunk와의 중복은 이미 INSERT되었으므로 DB 조회에서 걸러짐)
+        Map<String, ImportRow> unique = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            if (unique.putIfAbsent(row.dto().getUserId(), row) != null) {
+                report.fail(row.line(), row.dto().getUserId(), "파일 내에 중복된 사용자 ID입니다.");
+            }
+        }
+
+        Set<String> existing = new HashSet<>(userRepository.findExistingUserIds(unique.keySet()));
+        List<ImportRow> rows = new ArrayList<>(unique.size());
+        for (ImportRow row : unique.values()) {
+            if (existing.contains(row.dto().getUserId())) {
+                report.fail(row.line(), row.dto().getUserId(), "이미 사용 중인 사용자 ID입니다.");
+            } else {
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 해시는 커넥션을 잡기 전에 병렬로 수행
+        List<String> encodedPasswords = passwordHashingService.encodeAll(
+                rows.stream().map(row -> row.dto().getPassword()).toList());
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL,
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            bind(statement, rows.get(i).dto(), encodedPasswords.get(i), now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows.size();
+                        }
+                    }));
+            rows.forEach(row -> imported(row, report));
+        } catch (DataAccessException e) {
+            // 조회 이후 다른 요청이 같은 ID로 가입한 경우 등, 한 건씩 다시 시도하여 실패한 행만 보고
+            log.warn("배치 INSERT 실패, 행 단위로 재시도합니다: {}", e.getMessage());
+            for (int i = 0; i < rows.size(); i++) {
+                ImportRow row = rows.get(i);
+                String encodedPassword = encodedPasswords.get(i);
+                try {
+                    jdbcTemplate.update(connection -> prepareInsert(connection, row.dto(), encodedPassword, now));
+                    imported(row, report);
+                } catch (DataIntegrityViolationException rowError) {
+                    report.fail(row.line(), row.dto().getUserId(), "이미 사용 중이거나 저장할 수 없는 사용자입니다.");
+                }
+            }
+        }
+    }
+
+    private void imported(ImportRow row, ImportReport report) {
+        userIdMembershipIndex.add(row.dto().getUserId());
+        report.importedCount++;
+    }
+
+    private PreparedStatement prepareInsert(Connection connection, SignupRequestDto dto,
+                                            String encodedPassword, Timestamp now) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+        bind(statement, dto, encodedPassword, now);
+        return statement;
+    }
+
+    private static void bind(PreparedStatement statement, SignupRequestDto dto,
+                             String encodedPassword, Timestamp now) throws SQLException {
+        Connection connection = statement.getConnection();
+        statement.setObject(1, UUID.randomUUID());
+        statement.setString(2, dto.getUserId());
+        statement.setString(3, encodedPassword);
+        statement.setString(4, dto.getEmail());
+        statement.setString(5, dto.getName());
+        statement.setString(6, dto.getPhoneNumber());
+        statement.setDate(7, Date.valueOf(dto.getBirthDate()));
+        statement.setString(8, dto.getGender());
+        statement.setBoolean(9, dto.getIsMarried());
+        statement.setString(10, dto.getJob());
+        statement.setArray(11, dto.getDiseases() != null ? connection.createArrayOf("text", dto.getDiseases()) : null);
+        statement.setArray(12, dto.getSubscriptions() != null ? connection.createArrayOf("text", dto.getSubscriptions()) : null);
+        statement.setTimestamp(13, now);
+        statement.setTimestamp(14, now);
+    }
+
+    private SignupRequestDto readJsonRow(String line) throws IOException {
+        return objectMapper.readValue(line, SignupRequestDto.class);
+    }
+
+    // 헤더의 컬럼명을 필드명으로 사용하고, 타입 변환은 JSON 역직렬화와 동일하게 처리
+    private SignupRequestDto readCsvRow(String[] header, String line) {
+        String[] values = parseCsvLine(line);
+        if (values.length > header.length) {
+            throw new IllegalArgumentException("컬럼 수가 헤더보다 많습니다.");
+        }
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            String column = header[i].trim();
+            String value = values[i];
+            if (value.isEmpty()) {
+                continue;
+            }
+            fields.put(column, CSV_ARRAY_COLUMNS.contains(column)
+                    ? Arrays.stream(value.split(CSV_ARRAY_DELIMITER)).map(String::trim).toArray(String[]::new)
+                    : value);
+        }
+        return objectMapper.convertValue(fields, SignupRequestDto.class);
+    }
+
+    // 한 줄짜리 CSV 파싱 (큰따옴표로 감싼 값과 "" 이스케이프 지원)
+    static String[] parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다.");
+        }
+        values.add(current.toString());
+        return values.toArray(String[]::new);
+    }
+
+    private String validate(SignupRequestDto dto) {
+        Set<ConstraintViolation<SignupRequestDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private record ImportRow(long line, SignupRequestDto dto) {
+    }
+
+    // 오류 행은 최대 개수까지만 보관하여 실패가 많아도 메모리가 늘어나지 않게 함
+    private static final class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<UserImportResponseDto.RowError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+
+        private ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long line, String userId, String message) {
+            failedCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportResponseDto.RowError(line, userId, message));
+            }
+        }
+
+        private UserImportResponseDto toProgress() {
+            return UserImportResponseDto.builder()
+                    .totalRows(totalRows)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .build();
+        }
+
+        private UserImportResponseDto toResponse() {
+            return UserImportResponseDto.builder()
+                    .totalRows(totalRows)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors)
+                    .errorsTruncated(failedCount > errors.size())
+                    .build();
+        }
+    }
+}
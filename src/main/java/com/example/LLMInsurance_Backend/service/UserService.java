@@ -3,8 +3,10 @@ package com.example.LLMInsurance_Backend.service;
 import com.example.LLMInsurance_Backend.domain.dto.request.LoginRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.request.ProfileUpdateRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.request.SignupRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.LoginResponseDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.ProfileResponseDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.UserSearchResponseDto;
 import com.example.LLMInsurance_Backend.domain.entity.User;
 
 public interface UserService {
@@ -15,9 +17,9 @@ public interface UserService {
     void signup(SignupRequestDto signupRequestDto);
     
     /**
-     * 사용자 로그인
+     * 사용자 로그인 (clientIp는 로그인 실패 누적 추적에 사용)
      */
-    LoginResponseDto login(LoginRequestDto loginRequestDto);
+    LoginResponseDto login(LoginRequestDto loginRequestDto, String clientIp);
     
     /**
      * 사용자 ID로 사용자 조회
@@ -53,4 +55,14 @@ public interface UserService {
      * 사용자 ID 중복 확인
      */
     boolean checkUserIdDuplicate(String userId);
+    
+    /**
+     * 사용자 검색 권한 확인 (설정된 ID만 허용)
+     */
+    void checkSearchPermission(String requesterId);
+
+    /**
+     * 질병/가입 상품 조건으로 사용자 검색 (커서 기반 페이지네이션)
+     */
+    UserSearchResponseDto searchUsers(UserSearchRequestDto userSearchRequestDto);
 }
@@ -1,44 +1,83 @@
 package com.example.LLMInsurance_Backend.service;
 
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserLoginProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
 import com.example.LLMInsurance_Backend.domain.dto.request.LoginRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.request.ProfileUpdateRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.request.SignupRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.LoginResponseDto;
 import com.example.LLMInsurance_Backend.domain.dto.response.ProfileResponseDto;
+import com.example.LLMInsurance_Backend.domain.dto.response.UserSearchResponseDto;
 import com.example.LLMInsurance_Backend.domain.entity.User;
 import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.global.cache.LoginAttemptTracker;
+import com.example.LLMInsurance_Backend.global.cache.LoginStateRegistry;
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import com.example.LLMInsurance_Backend.global.cache.UserIdMembershipIndex;
+import com.example.LLMInsurance_Backend.global.cache.UserSnapshotCache;
+import com.example.LLMInsurance_Backend.global.exception.ServiceOverloadedException;
 import com.example.LLMInsurance_Backend.global.utils.JwtTokenUtil;
+import com.example.LLMInsurance_Backend.global.utils.TokenVersionRegistry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@Timed(value = "user.service", histogram = true)
 public class UserServiceImpl implements UserService {
 
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 100;
+
+    // 호출이 잦은 조회 로그는 별도 로거로 분리하여 logback-spring.xml에서 샘플링
+    private static final Logger PROFILE_READ_LOG = LoggerFactory.getLogger(UserServiceImpl.class.getName() + ".profileRead");
+    private static final Logger USER_ID_CHECK_LOG = LoggerFactory.getLogger(UserServiceImpl.class.getName() + ".userIdCheck");
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final UserSnapshotCache userSnapshotCache;
+    private final LoginStateRegistry loginStateRegistry;
+    private final UserIdMembershipIndex userIdMembershipIndex;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    // 사용자 검색이 가능한 ID (비어 있으면 모두 거부)
+    @Value("${user-search.allowed-user-ids:}")
+    private Set<String> searchAllowedUserIds;
 
     // 사용자 회원가입
+    // BCrypt 대기/해시 동안 커넥션을 점유하지 않도록 트랜잭션을 열지 않음 (조회와 INSERT는 각각 리포지토리 트랜잭션 사용)
     @Override
-    @Transactional
     public void signup(SignupRequestDto signupRequestDto) {
-        // 사용자 ID 중복 검사
-        if (userRepository.existsByUserId(signupRequestDto.getUserId())) {
+        // 사용자 ID 중복 검사 (인덱스는 다른 인스턴스의 가입을 늦게 반영하므로 항상 주 DB로 확인)
+        if (readYourWritesTracker.onPrimary(() -> userRepository.existsByUserId(signupRequestDto.getUserId()))) {
             throw new IllegalArgumentException("이미 사용 중인 사용자 ID입니다.");
         }
 
+        String encodedPassword = passwordHashingService.encode(signupRequestDto.getPassword());
+
         // 사용자 엔티티 생성
         User user = User.builder()
                 .userId(signupRequestDto.getUserId())
-                .password(passwordEncoder.encode(signupRequestDto.getPassword()))
+                .password(encodedPassword)
                 .email(signupRequestDto.getEmail())
                 .name(signupRequestDto.getName())
                 .phoneNumber(signupRequestDto.getPhoneNumber())
@@ -50,159 +89,187 @@ public class UserServiceImpl implements UserService {
                 .subscriptions(signupRequestDto.getSubscriptions())
                 .isLogin(false)
                 .isDeleted(false)
+                .tokenVersion(0)
                 .build();
 
+        // 중복 검사 이후 같은 ID로 먼저 가입한 경우는 유일 인덱스 위반으로 잡음
         try {
-            userRepository.save(user);
-            log.info("새로운 사용자가 회원가입했습니다: {}", signupRequestDto.getUserId());
+            userRepository.saveAndFlush(user);
         } catch (DataIntegrityViolationException e) {
-            log.error("회원가입 중 데이터 무결성 오류 발생: {}", e.getMessage());
-            throw new IllegalArgumentException("회원가입 중 오류가 발생했습니다. 입력 정보를 확인해주세요.");
+            log.warn("회원가입 중 데이터 무결성 오류 발생 (동시 가입으로 인한 ID 중복): {}", e.getMessage());
+            throw new IllegalArgumentException("이미 사용 중인 사용자 ID입니다.");
         }
+
+        userSnapshotCache.invalidate(user.getUserId());
+        userIdMembershipIndex.add(user.getUserId());
+        readYourWritesTracker.markWritten(user.getUserId());
+        log.info("새로운 사용자가 회원가입했습니다: {}", signupRequestDto.getUserId());
     }
 
     // 사용자 로그인
+    // 사용자와 토큰 버전을 한 번에 읽는 조회 외에는 DB를 사용하지 않으며, BCrypt 검증 동안 커넥션을 점유하지 않도록 트랜잭션을 열지 않음
     @Override
-    @Transactional
-    public LoginResponseDto login(LoginRequestDto loginRequestDto) {
-        // 사용자 조회
-        User user = userRepository.findByUserId(loginRequestDto.getUserId())
-                .orElseThrow(() -> new UsernameNotFoundException("로그인 정보가 올바르지 않습니다"));
+    public LoginResponseDto login(LoginRequestDto loginRequestDto, String clientIp) {
+        String userId = loginRequestDto.getUserId();
+
+        // 실패가 누적된 사용자/IP는 조회와 BCrypt 검증 없이 거절
+        loginAttemptTracker.checkAllowed(userId, clientIp);
+
+        // 사용자 조회 (없는 사용자도 같은 시간이 걸리도록 더미 해시로 검증)
+        // 다른 인스턴스에서 가입/변경/로그아웃한 직후일 수 있으므로 캐시나 복제본이 아닌 주 DB에서 조회
+        UserLoginProjection login = readYourWritesTracker.onPrimary(() -> userRepository.findActiveLoginByUserId(userId))
+                .orElse(null);
+        if (login == null) {
+            passwordHashingService.matchesDummy(loginRequestDto.getPassword());
+            loginAttemptTracker.recordFailure(userId, clientIp);
+            throw new UsernameNotFoundException("로그인 정보가 올바르지 않습니다");
+        }
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(), user.getPassword())) {
+        UserSnapshot user = login.toSnapshot();
+        if (!passwordHashingService.matches(loginRequestDto.getPassword(), user.password())) {
+            loginAttemptTracker.recordFailure(userId, clientIp);
             throw new BadCredentialsException("로그인 정보가 올바르지 않습니다");
         }
+        loginAttemptTracker.recordSuccess(userId);
+
+        // 저장된 해시의 cost가 현재 설정과 다르면 재해시 (실패해도 로그인은 계속 진행)
+        if (passwordHashingService.needsRehash(user.password())) {
+            rehashPassword(user, loginRequestDto.getPassword());
+        }
 
-        // 로그인 상태 업데이트
-        user.setLogin(true);
-        userRepository.save(user);
+        // 로그인 상태는 메모리에 기록하고 DB에는 비동기로 반영
+        loginStateRegistry.markLoggedIn(user.userId());
 
-        // JWT 토큰 생성
-        String accessToken = jwtTokenUtil.generateToken(user.getUserId());
+        // JWT 토큰 생성 (인증 시 DB 조회를 생략할 수 있도록 클레임 포함)
+        // 토큰 버전은 위에서 주 DB로 읽은 값을 사용하고, 인증 시 다시 조회하지 않도록 캐시에도 반영
+        tokenVersionRegistry.update(user.userId(), login.tokenVersion());
+        String accessToken = jwtTokenUtil.generateToken(user.userId(), false, login.tokenVersion());
 
-        log.info("사용자 {}가 성공적으로 로그인했습니다", user.getUserId());
+        log.info("사용자 {}가 성공적으로 로그인했습니다", user.userId());
 
         return LoginResponseDto.of(
                 accessToken,
-                user.getUserId(),
-                user.getEmail(),
-                user.getName(),
-                user.getPhoneNumber(),
-                user.getBirthDate(),
-                user.getGender(),
-                user.isMarried(),
-                user.getJob(),
-                user.getDiseases(),
-                user.getSubscriptions(),
-                user.isLogin()
+                user.userId(),
+                user.email(),
+                user.name(),
+                user.phoneNumber(),
+                user.birthDate(),
+                user.gender(),
+                user.married(),
+                user.job(),
+                user.diseases(),
+                user.subscriptions(),
+                true
         );
     }
 
+    private void rehashPassword(UserSnapshot user, String rawPassword) {
+        try {
+            String rehashed = passwordHashingService.encode(rawPassword);
+            userRepository.updatePassword(user.userId(), rehashed);
+            userSnapshotCache.put(user.withPassword(rehashed));
+            log.info("사용자 {}의 비밀번호 해시를 현재 cost로 갱신했습니다", user.userId());
+        } catch (ServiceOverloadedException e) {
+            log.warn("비밀번호 재해시를 건너뜁니다: {}", user.userId());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public User findByUserId(String userId) {
-        return userRepository.findByUserId(userId)
+        return userRepository.findActiveByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
     }
 
     @Override
     public boolean checkPassword(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return passwordHashingService.matches(rawPassword, encodedPassword);
     }
 
     @Override
     public String encodePassword(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return passwordHashingService.encode(rawPassword);
     }
 
+    // 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 없이 조회 (미스 시 리포지토리 트랜잭션 사용)
+    // 삭제된 사용자는 캐시에 적재되지 않으므로 없는 사용자와 같이 처리
     @Override
-    @Transactional(readOnly = true)
     public ProfileResponseDto getProfile(String userId) {
-        User user = userRepository.findByUserId(userId)
+        UserSnapshot user = userSnapshotCache.get(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
         
-        if (user.isDeleted()) {
-            throw new UsernameNotFoundException("삭제된 사용자입니다: " + userId);
-        }
+        PROFILE_READ_LOG.info("사용자 {}의 프로필 정보를 조회했습니다", userId);
         
-        log.info("사용자 {}의 프로필 정보를 조회했습니다", userId);
-        
-        return ProfileResponseDto.from(user);
+        return ProfileResponseDto.from(user.withLogin(loginStateRegistry.isLoggedIn(userId, user.login())));
     }
 
+    // 토큰 버전은 DB에 바로 반영하여 모든 인스턴스에서 기존 토큰을 폐기하고, 로그인 상태는 메모리에 기록 후 비동기로 반영
     @Override
-    @Transactional
     public void logout(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-        
-        if (user.isDeleted()) {
-            throw new UsernameNotFoundException("삭제된 사용자입니다: " + userId);
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId);
         }
-        
-        // 로그인 상태를 false로 변경
-        user.setLogin(false);
-        userRepository.save(user);
+        tokenVersionRegistry.refresh(userId);
+        userSnapshotCache.invalidate(userId);
+        loginStateRegistry.markLoggedOut(userId);
         
         log.info("사용자 {}가 로그아웃했습니다", userId);
     }
 
+    // 조회 없이 변경된 컬럼만 한 번의 UPDATE로 수정하고, 수정된 행을 그대로 응답에 사용
     @Override
     @Transactional
     public ProfileResponseDto updateProfile(String userId, ProfileUpdateRequestDto profileUpdateRequestDto) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
-        
-        if (user.isDeleted()) {
-            throw new UsernameNotFoundException("삭제된 사용자입니다: " + userId);
-        }
-        
-        // 수정할 필드들만 업데이트 (null이 아닌 경우에만)
-        if (profileUpdateRequestDto.getEmail() != null) {
-            user.setEmail(profileUpdateRequestDto.getEmail());
-        }
-        if (profileUpdateRequestDto.getName() != null) {
-            user.setName(profileUpdateRequestDto.getName());
-        }
-        if (profileUpdateRequestDto.getPhoneNumber() != null) {
-            user.setPhoneNumber(profileUpdateRequestDto.getPhoneNumber());
-        }
-        if (profileUpdateRequestDto.getBirthDate() != null) {
-            user.setBirthDate(profileUpdateRequestDto.getBirthDate());
-        }
-        if (profileUpdateRequestDto.getGender() != null) {
-            user.setGender(profileUpdateRequestDto.getGender());
-        }
-        if (profileUpdateRequestDto.getIsMarried() != null) {
-            user.setMarried(profileUpdateRequestDto.getIsMarried());
-        }
-        if (profileUpdateRequestDto.getJob() != null) {
-            user.setJob(profileUpdateRequestDto.getJob());
-        }
-        if (profileUpdateRequestDto.getDiseases() != null) {
-            user.setDiseases(profileUpdateRequestDto.getDiseases());
-        }
-        if (profileUpdateRequestDto.getSubscriptions() != null) {
-            user.setSubscriptions(profileUpdateRequestDto.getSubscriptions());
-        }
-        
         try {
-            userRepository.save(user);
+            UserProfileProjection updated = userRepository.updateProfile(userId, profileUpdateRequestDto)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
+            userSnapshotCache.invalidate(userId);
+            readYourWritesTracker.markWritten(userId);
             log.info("사용자 {}의 프로필이 수정되었습니다", userId);
-            
-            return ProfileResponseDto.from(user);
+
+            return ProfileResponseDto.from(updated.withLogin(loginStateRegistry.isLoggedIn(userId, updated.login())));
         } catch (DataIntegrityViolationException e) {
             log.error("프로필 수정 중 데이터 무결성 오류 발생: {}", e.getMessage());
             throw new IllegalArgumentException("프로필 수정 중 오류가 발생했습니다. 입력 정보를 확인해주세요.");
         }
     }
 
+    // 인덱스에 확실히 없는 ID는 트랜잭션과 DB 조회 없이 바로 응답
+    // 다른 인스턴스의 가입은 증분 동기화 주기만큼 늦게 반영되므로 안내용이며, 최종 중복 확인은 signup에서 수행
     @Override
-    @Transactional(readOnly = true)
     public boolean checkUserIdDuplicate(String userId) {
-        boolean isDuplicate = userRepository.existsByUserId(userId);
-        log.info("사용자 ID {} 중복 확인 결과: {}", userId, isDuplicate ? "중복됨" : "사용 가능");
+        boolean isDuplicate = userIdMembershipIndex.mightContain(userId)
+                && readYourWritesTracker.onPrimary(() -> userRepository.existsByUserId(userId));
+        USER_ID_CHECK_LOG.info("사용자 ID {} 중복 확인 결과: {}", userId, isDuplicate ? "중복됨" : "사용 가능");
         return isDuplicate;
     }
+
+    @Override
+    public void checkSearchPermission(String requesterId) {
+        if (!searchAllowedUserIds.contains(requesterId)) {
+            throw new AccessDeniedException("사용자 검색 권한이 없습니다.");
+        }
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+    @Override
+    public UserSearchResponseDto searchUsers(UserSearchRequestDto userSearchRequestDto) {
+        int size = userSearchRequestDto.getSize() != null
+                ? Math.min(Math.max(userSearchRequestDto.getSize(), 1), MAX_SEARCH_SIZE)
+                : DEFAULT_SEARCH_SIZE;
+        List<UserProfileProjection> rows = userRepository.searchByArrayConditions(userSearchRequestDto, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<UserProfileProjection> page = hasNext ? rows.subList(0, size) : rows;
+        List<ProfileResponseDto> users = page.stream()
+                .map(user -> ProfileResponseDto.from(
+                        user.withLogin(loginStateRegistry.isLoggedIn(user.userId(), user.login()))))
+                .toList();
+
+        return UserSearchResponseDto.builder()
+                .users(users)
+                .nextCursor(hasNext ? page.get(page.size() - 1).userId() : null)
+                .build();
+    }
 }
@@ -0,0 +1,35 @@
+-- 사용자 테이블 (기존 Hibernate ddl-auto로 만들던 스키마와 같은 구조)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 버전 0에서 시작하므로 이미 있는 객체는 건너뛰고,
+-- 기존 엔티티에 없던 컬럼은 아래에서 추가함
+CREATE TABLE IF NOT EXISTS app_users (
+    uuid          uuid         NOT NULL,
+    user_id       varchar(255) NOT NULL,
+    password      varchar(255) NOT NULL,
+    email         varchar(255) NOT NULL,
+    name          varchar(255) NOT NULL,
+    phone_number  varchar(255) NOT NULL,
+    birth_date    date         NOT NULL,
+    gender        varchar(255) NOT NULL,
+    is_married    boolean      NOT NULL,
+    job           varchar(255) NOT NULL,
+    diseases      text[],
+    subscriptions text[],
+    created_at    timestamp(6) NOT NULL,
+    modified_at   timestamp(6) NOT NULL,
+    is_login      boolean      NOT NULL DEFAULT false,
+    is_deleted    boolean      NOT NULL DEFAULT false,
+    token_version integer      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_app_users PRIMARY KEY (uuid),
+    CONSTRAINT uk_app_users_user_id UNIQUE (user_id)
+);
+
+-- 기존 Hibernate 스키마에 없는 컬럼 (deleted_at은 V3에서 추가)
+ALTER TABLE app_users ADD COLUMN IF NOT EXISTS token_version integer NOT NULL DEFAULT 0;
+
+-- Hibernate가 varchar(255)[]로 만든 기존 테이블도 text[]로 맞춤 (이미 text[]이면 변경 없음)
+ALTER TABLE app_users ALTER COLUMN diseases TYPE text[];
+ALTER TABLE app_users ALTER COLUMN subscriptions TYPE text[];
+
+-- 질병/가입 상품 포함(@>)/겹침(&&) 검색용 GIN 인덱스
+CREATE INDEX IF NOT EXISTS idx_app_users_diseases_gin ON app_users USING GIN (diseases);
+CREATE INDEX IF NOT EXISTS idx_app_users_subscriptions_gin ON app_users USING GIN (subscriptions);
@@ -0,0 +1,31 @@
+-- 인증 조회(findAuthByUserId)용 커버링 인덱스
+-- 조회하는 컬럼을 모두 INCLUDE하여 테이블을 읽지 않는 Index Only Scan으로 처리
+-- user_id 유일 제약도 이 인덱스가 대신함
+CREATE UNIQUE INDEX IF NOT EXISTS ux_app_users_user_id_auth
+    ON app_users (user_id) INCLUDE (password, is_deleted, token_version);
+
+-- user_id 하나로 된 기존 유일 제약 제거 (V1의 uk_app_users_user_id, 또는 Hibernate가 만든 임의 이름의 제약)
+-- 위 인덱스와 같은 역할이므로 남겨 두면 쓰기마다 인덱스만 하나 더 갱신됨
+DO $$
+DECLARE
+    constraint_name text;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.conrelid = 'app_users'::regclass
+          AND c.contype = 'u'
+          AND array_length(c.conkey, 1) = 1
+          AND a.attname = 'user_id'
+    LOOP
+        EXECUTE format('ALTER TABLE app_users DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END
+$$;
+
+-- 삭제되지 않은 사용자만 담는 부분 인덱스
+-- 활성 프로필 조회(user_id = ? AND is_deleted = false)와
+-- 배열 조건 검색의 키셋 페이지네이션(is_deleted = false AND user_id > ? ORDER BY user_id)을 정렬 없이 처리
+CREATE INDEX IF NOT EXISTS idx_app_users_active_user_id
+    ON app_users (user_id) WHERE is_deleted = false;
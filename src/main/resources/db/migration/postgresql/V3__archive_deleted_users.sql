@@ -0,0 +1,36 @@
+-- 삭제 시각 (보관 테이블 이동 기준)
+ALTER TABLE app_users ADD COLUMN IF NOT EXISTS deleted_at timestamp(6);
+
+-- 이미 삭제된 사용자는 마지막 수정 시각을 삭제 시각으로 사용
+UPDATE app_users SET deleted_at = modified_at WHERE is_deleted = true AND deleted_at IS NULL;
+
+-- 보관 대상 조회용 (삭제된 사용자만 담으므로 크기가 작음)
+CREATE INDEX IF NOT EXISTS idx_app_users_deleted_at ON app_users (deleted_at) WHERE is_deleted = true;
+
+-- 오래전에 삭제된 사용자를 옮겨 두는 보관 테이블 (UserArchiveService)
+-- 조회 경로에서 쓰지 않으므로 배열 GIN 인덱스 없이 user_id 인덱스만 둠
+-- 보관된 사용자 ID는 다시 가입할 수 있으므로 user_id는 유일하지 않음
+CREATE TABLE IF NOT EXISTS app_users_archive (
+    uuid          uuid         NOT NULL,
+    user_id       varchar(255) NOT NULL,
+    password      varchar(255) NOT NULL,
+    email         varchar(255) NOT NULL,
+    name          varchar(255) NOT NULL,
+    phone_number  varchar(255) NOT NULL,
+    birth_date    date         NOT NULL,
+    gender        varchar(255) NOT NULL,
+    is_married    boolean      NOT NULL,
+    job           varchar(255) NOT NULL,
+    diseases      text[],
+    subscriptions text[],
+    created_at    timestamp(6) NOT NULL,
+    modified_at   timestamp(6) NOT NULL,
+    is_login      boolean      NOT NULL,
+    is_deleted    boolean      NOT NULL,
+    token_version integer      NOT NULL,
+    deleted_at    timestamp(6),
+    archived_at   timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_app_users_archive PRIMARY KEY (uuid)
+);
+
+CREATE INDEX IF NOT EXISTS idx_app_users_archive_user_id ON app_users_archive (user_id);
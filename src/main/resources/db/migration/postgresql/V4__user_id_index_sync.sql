@@ -0,0 +1,3 @@
+-- 사용자 ID 인덱스 증분 동기화(UserIdMembershipIndex.syncRecentUserIds)용
+-- 최근 가입한 사용자만 범위 조회하므로 전체 테이블을 읽지 않음
+CREATE INDEX IF NOT EXISTS idx_app_users_created_at ON app_users (created_at);
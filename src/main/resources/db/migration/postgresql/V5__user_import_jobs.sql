@@ -0,0 +1,18 @@
+-- 사용자 대량 가입 작업 (UserImportJobService)
+-- 업로드를 받은 인스턴스가 실행하고, 진행 상황과 결과는 어느 인스턴스에서나 조회할 수 있도록 DB에 기록
+CREATE TABLE IF NOT EXISTS user_import_jobs (
+    id               uuid         NOT NULL,
+    requested_by     varchar(255) NOT NULL,
+    status           varchar(255) NOT NULL,
+    total_rows       bigint       NOT NULL,
+    imported_count   bigint       NOT NULL,
+    failed_count     bigint       NOT NULL,
+    errors           text,
+    errors_truncated boolean      NOT NULL,
+    failure_message  varchar(255),
+    created_at       timestamp(6) NOT NULL,
+    modified_at      timestamp(6) NOT NULL,
+    finished_at      timestamp(6),
+    CONSTRAINT pk_user_import_jobs PRIMARY KEY (id),
+    CONSTRAINT ck_user_import_jobs_status CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED'))
+);
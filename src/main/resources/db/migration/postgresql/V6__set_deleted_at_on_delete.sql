@@ -0,0 +1,25 @@
+-- is_deleted가 true로 바뀌면 삭제 시각을 기록하고, 복구(false)하면 지움 (보관 테이블 이동 기준)
+-- 삭제는 애플리케이션이 아닌 운영 SQL로도 이루어지므로 쓰기 경로와 무관하게 DB에서 기록
+CREATE OR REPLACE FUNCTION app_users_set_deleted_at() RETURNS trigger AS $$
+BEGIN
+    IF NOT NEW.is_deleted THEN
+        NEW.deleted_at := NULL;
+    ELSIF NEW.deleted_at IS NULL THEN
+        -- 이미 삭제된 사용자를 삭제 시각 없이 다시 저장한 경우(삭제 전에 읽은 엔티티 저장 등)는 기존 시각 유지
+        IF TG_OP = 'UPDATE' AND OLD.is_deleted AND OLD.deleted_at IS NOT NULL THEN
+            NEW.deleted_at := OLD.deleted_at;
+        ELSE
+            NEW.deleted_at := now();
+        END IF;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_app_users_set_deleted_at ON app_users;
+CREATE TRIGGER trg_app_users_set_deleted_at
+    BEFORE INSERT OR UPDATE OF is_deleted, deleted_at ON app_users
+    FOR EACH ROW EXECUTE FUNCTION app_users_set_deleted_at();
+
+-- V3 이후 삭제 시각 없이 삭제된 사용자는 마지막 수정 시각을 삭제 시각으로 사용
+UPDATE app_users SET deleted_at = modified_at WHERE is_deleted = true AND deleted_at IS NULL;
@@ -0,0 +1,209 @@
+package com.example.LLMInsurance_Backend.controller;
+
+import com.example.LLMInsurance_Backend.domain.dto.request.LoginRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.SignupRequestDto;
+import com.example.LLMInsurance_Backend.global.cache.UserSnapshotCache;
+import com.example.LLMInsurance_Backend.global.utils.TokenVersionRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 추천 SSE 엔드포인트 확인 (실제 서버 + 로컬 OpenAI 스텁 서버, 외부 네트워크 사용 안 함)
+ * 응답은 비동기 디스패치로 전송되므로 토큰 이벤트를 받으면 ASYNC 디스패치 허용도 함께 확인된다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class RecommendationControllerTest {
+
+    // 프롬프트에 이 직업이 있으면 스텁 서버가 오류를 반환
+    private static final String FAILING_JOB = "오류직업";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private static final DisposableServer OPENAI_STUB = HttpServer.create()
+            .port(0)
+            .route(routes -> routes
+                    .post("/v1/chat/completions", (request, response) -> request.receive().aggregate().asString()
+                            .flatMap(body -> {
+                                if (body.contains(FAILING_JOB)) {
+                                    return response.status(500)
+                                            .sendString(Mono.just("{\"error\":{\"message\":\"server error\"}}"))
+                                            .then();
+                                }
+                                return response.header("Content-Type", "text/event-stream")
+                                        .sendString(Flux.just(
+                                                sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"}}]}"),
+                                                sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"실손\"}}]}"),
+                                                sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"보험\"},\"finish_reason\":\"stop\"}]}"),
+                                                sse("[DONE]")))
+                                        .then();
+                            })))
+            .bindNow();
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> "http://localhost:" + OPENAI_STUB.port() + "/v1");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        OPENAI_STUB.disposeNow();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+
+    @Autowired
+    private UserSnapshotCache userSnapshotCache;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient.bindToServer()
+                .baseUrl("http://localhost:" + port)
+                .responseTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Test
+    void 생성된_조각을_token_이벤트로_보내고_done으로_끝냄() {
+        String token = signupAndLogin("ssetoken1", "개발자");
+
+        List<ServerSentEvent<String>> events = stream(token);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly("token", "token", "done");
+        assertThat(events).extracting(ServerSentEvent::data).startsWith("실손", "보험");
+    }
+
+    @Test
+    void OpenAI_호출이_실패하면_error_이벤트로_끝냄() {
+        String token = signupAndLogin("sseerror1", FAILING_JOB);
+
+        List<ServerSentEvent<String>> events = stream(token);
+
+        assertThat(events).singleElement()
+                .satisfies(event -> {
+                    assertThat(event.event()).isEqualTo("error");
+                    assertThat(event.data()).contains("추천을 생성하지 못했습니다");
+                });
+    }
+
+    @Test
+    void 토큰이_없으면_401() {
+        client.get().uri("/api/v1/recommendations/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void 삭제된_사용자의_토큰은_401() {
+        String token = signupAndLogin("ssedeleted1", "개발자");
+        jdbcTemplate.update("UPDATE app_users SET is_deleted = true WHERE user_id = ?", "ssedeleted1");
+        tokenVersionRegistry.refresh("ssedeleted1");
+
+        client.get().uri("/api/v1/recommendations/stream")
+                .headers(headers -> headers.setBearerAuth(token))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    void 토큰_확인_후_사용자_조회에_실패하면_스트림을_시작하지_않고_401() {
+        String token = signupAndLogin("ssemissing1", "개발자");
+        // 토큰 버전 캐시는 유지한 채 사용자만 삭제
+        jdbcTemplate.update("UPDATE app_users SET is_deleted = true WHERE user_id = ?", "ssemissing1");
+        userSnapshotCache.invalidate("ssemissing1");
+
+        client.get().uri("/api/v1/recommendations/stream")
+                .headers(headers -> headers.setBearerAuth(token))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    private List<ServerSentEvent<String>> stream(String token) {
+        return client.get().uri("/api/v1/recommendations/stream")
+                .headers(headers -> headers.setBearerAuth(token))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(SSE)
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+    }
+
+    private String signupAndLogin(String userId, String job) {
+        SignupRequestDto signupRequest = new SignupRequestDto();
+        signupRequest.setUserId(userId);
+        signupRequest.setPassword("password123");
+        signupRequest.setEmail(userId + "@example.com");
+        signupRequest.setName("추천 테스트 사용자");
+        signupRequest.setPhoneNumber("010-5555-6666");
+        signupRequest.setBirthDate(LocalDate.of(1990, 1, 1));
+        signupRequest.setGender("남");
+        signupRequest.setIsMarried(false);
+        signupRequest.setJob(job);
+        signupRequest.setDiseases(new String[]{});
+        signupRequest.setSubscriptions(new String[]{});
+        client.post().uri("/api/v1/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(signupRequest)
+                .exchange()
+                .expectStatus().isOk();
+
+        LoginRequestDto loginRequest = new LoginRequestDto();
+        loginRequest.setUserId(userId);
+        loginRequest.setPassword("password123");
+        JsonNode login = client.post().uri("/api/v1/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(loginRequest)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult()
+                .getResponseBody();
+        assertThat(login).isNotNull();
+        return login.get("accessToken").asText();
+    }
+
+    private static String sse(String data) {
+        return "data: " + data + "\n\n";
+    }
+}
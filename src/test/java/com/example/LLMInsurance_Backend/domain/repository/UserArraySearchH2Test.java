@@ -0,0 +1,12 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 개발/테스트 DB(H2)의 ARRAY_CONTAINS 대체 조건 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class UserArraySearchH2Test extends UserArraySearchTestSupport {
+}
@@ -0,0 +1,104 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserProfileProjection;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
+import com.example.LLMInsurance_Backend.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배열 조건 검색 결과 확인 (PostgreSQL 배열 연산자와 H2 대체 조건이 같은 결과를 내야 함)
+ * DB별 설정은 하위 클래스에서 지정
+ */
+abstract class UserArraySearchTestSupport {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seed() {
+        userRepository.saveAllAndFlush(List.of(
+                user("user-a", false, new String[]{"당뇨", "고혈압"}, new String[]{"실손"}),
+                user("user-b", false, new String[]{"당뇨"}, null),
+                user("user-c", false, new String[]{"고혈압"}, new String[]{"실손", "암"}),
+                user("user-d", false, null, new String[]{"암"}),
+                user("user-e", true, new String[]{"당뇨", "고혈압"}, new String[]{"실손"})));
+    }
+
+    @Test
+    void 모두_포함_조건은_모든_값을_가진_사용자만_조회() {
+        assertThat(search(condition -> condition.setDiseasesAll(new String[]{"당뇨", "고혈압"})))
+                .containsExactly("user-a");
+        assertThat(search(condition -> condition.setSubscriptionsAll(new String[]{"실손", "암"})))
+                .containsExactly("user-c");
+    }
+
+    @Test
+    void 겹침_조건은_하나라도_가진_사용자를_조회() {
+        assertThat(search(condition -> condition.setDiseasesAny(new String[]{"당뇨", "고혈압"})))
+                .containsExactly("user-a", "user-b", "user-c");
+    }
+
+    @Test
+    void 제외_조건은_하나도_없는_사용자와_값이_없는_사용자를_조회() {
+        assertThat(search(condition -> condition.setSubscriptionsNone(new String[]{"실손"})))
+                .containsExactly("user-b", "user-d");
+    }
+
+    @Test
+    void 여러_조건은_모두_만족해야_함() {
+        assertThat(search(condition -> {
+            condition.setDiseasesAny(new String[]{"당뇨"});
+            condition.setSubscriptionsNone(new String[]{"암"});
+        })).containsExactly("user-a", "user-b");
+    }
+
+    @Test
+    void 커서_이후부터_userId_순으로_조회하고_삭제된_사용자는_제외() {
+        assertThat(page(null, 2)).containsExactly("user-a", "user-b");
+        assertThat(page("user-b", 2)).containsExactly("user-c", "user-d");
+        assertThat(page("user-d", 2)).isEmpty();
+    }
+
+    private List<String> search(Consumer<UserSearchRequestDto> customizer) {
+        UserSearchRequestDto condition = new UserSearchRequestDto();
+        customizer.accept(condition);
+        return userIds(userRepository.searchByArrayConditions(condition, 100));
+    }
+
+    private List<String> page(String cursor, int limit) {
+        UserSearchRequestDto condition = new UserSearchRequestDto();
+        condition.setCursor(cursor);
+        return userIds(userRepository.searchByArrayConditions(condition, limit));
+    }
+
+    private static List<String> userIds(List<UserProfileProjection> users) {
+        return users.stream().map(UserProfileProjection::userId).toList();
+    }
+
+    private static User user(String userId, boolean deleted, String[] diseases, String[] subscriptions) {
+        return User.builder()
+                .userId(userId)
+                .password("hash")
+                .email(userId + "@example.com")
+                .name("테스트")
+                .phoneNumber("010-0000-0000")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .gender("남")
+                .isMarried(false)
+                .job("개발자")
+                .diseases(diseases)
+                .subscriptions(subscriptions)
+                .isLogin(false)
+                .isDeleted(deleted)
+                .tokenVersion(0)
+                .build();
+    }
+}
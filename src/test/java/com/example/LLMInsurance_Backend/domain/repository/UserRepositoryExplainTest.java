@@ -0,0 +1,312 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.dto.request.ProfileUpdateRequestDto;
+import com.example.LLMInsurance_Backend.domain.dto.request.UserSearchRequestDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장소 쿼리의 실행 계획 확인 (Flyway 마이그레이션으로 만든 스키마 기준)
+ * 실제로 실행된 SQL과 바인딩 값을 가로채 EXPLAIN하므로, 인덱스나 쿼리가 바뀌어 계획이 나빠지면 실패한다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class UserRepositoryExplainTest {
+
+    private static final String AUTH_INDEX = "ux_app_users_user_id_auth";
+    private static final String ACTIVE_INDEX = "idx_app_users_active_user_id";
+
+    // 5명 중 1명은 삭제된 사용자
+    private static final String SEED_SQL = """
+            INSERT INTO app_users (uuid, user_id, password, email, name, phone_number, birth_date, gender,
+                                   is_married, job, diseases, subscriptions, created_at, modified_at, is_deleted,
+                                   deleted_at)
+            SELECT gen_random_uuid(), 'user' || lpad(i::text, 5, '0'), '$2a$10$' || md5(i::text),
+                   'user' || i || '@example.com', '사용자' || i, '010-0000-0000', DATE '1990-01-01' + (i % 5000),
+                   CASE WHEN i % 2 = 0 THEN '남' ELSE '여' END, i % 3 = 0, '개발자',
+                   ARRAY['당뇨'], ARRAY['실손'], now(), now(), i % 5 = 0,
+                   CASE WHEN i % 5 = 0 THEN now() - (i % 365) * INTERVAL '1 day' END
+            FROM generate_series(1, 10000) AS i
+            """;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static boolean seeded;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        // 마이그레이션으로 만든 스키마가 엔티티와 맞는지도 함께 확인
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/postgresql");
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.update(SEED_SQL);
+        // Index Only Scan은 가시성 맵이 채워져 있어야 선택되므로 통계와 함께 갱신
+        jdbcTemplate.execute("VACUUM ANALYZE app_users");
+        seeded = true;
+    }
+
+    @Test
+    void 인증_조회는_커버링_인덱스만_읽는다() {
+        JsonNode plan = explain(() -> assertThat(userRepository.findActiveAuthByUserId("user00042")).isPresent());
+
+        assertNoFullScan(plan);
+        assertUsesIndex(plan, "Index Only Scan", AUTH_INDEX);
+    }
+
+    @Test
+    void 가입_중복_확인은_삭제된_사용자를_포함해_user_id_인덱스를_사용한다() {
+        JsonNode existing = explain(() -> assertThat(
+                userRepository.findExistingUserIds(List.of("user00001", "user00005", "nobody"))).hasSize(2));
+        JsonNode exists = explain(() -> assertThat(userRepository.existsByUserId("user00005")).isTrue());
+
+        assertNoFullScan(existing);
+        assertUsesIndex(existing, "Index Only Scan", AUTH_INDEX);
+        assertNoFullScan(exists);
+        assertUsesIndex(exists, "Index Scan", AUTH_INDEX);
+    }
+
+    @Test
+    void 활성_사용자_조회는_부분_인덱스를_사용한다() {
+        List<JsonNode> plans = List.of(
+                explain(() -> assertThat(userRepository.findActiveByUserId("user00042")).isPresent()),
+                explain(() -> assertThat(userRepository.findActiveProfileByUserId("user00042")).isPresent()),
+                explain(() -> assertThat(userRepository.findActiveSnapshotByUserId("user00042")).isPresent()),
+                explain(() -> assertThat(
+                        userRepository.updateProfile("user00042", new ProfileUpdateRequestDto())).isPresent()));
+
+        for (JsonNode plan : plans) {
+            assertNoFullScan(plan);
+            assertUsesIndex(plan, "Index Scan", ACTIVE_INDEX);
+        }
+    }
+
+    @Test
+    void 삭제된_사용자는_조회되지_않는다() {
+        assertThat(userRepository.findActiveByUserId("user00005")).isEmpty();
+        assertThat(userRepository.findActiveAuthByUserId("user00005")).isEmpty();
+        assertThat(userRepository.findActiveProfileByUserId("user00005")).isEmpty();
+        assertThat(userRepository.findActiveSnapshotByUserId("user00005")).isEmpty();
+    }
+
+    @Test
+    void 키셋_검색은_부분_인덱스_순서로_정렬_없이_읽는다() {
+        UserSearchRequestDto condition = new UserSearchRequestDto();
+        condition.setCursor("user05000");
+
+        JsonNode plan = explain(() -> assertThat(userRepository.searchByArrayConditions(condition, 20)).hasSize(20));
+
+        assertNoFullScan(plan);
+        assertThat(nodeTypes(plan)).doesNotContain("Sort", "Incremental Sort");
+        assertUsesIndex(plan, "Index Scan", ACTIVE_INDEX);
+    }
+
+    /**
+     * 호출 중 마지막으로 실행된 app_users 조회를 바인딩 값을 채워 EXPLAIN
+     */
+    private JsonNode explain(Runnable repositoryCall) {
+        STATEMENTS.clear();
+        repositoryCall.run();
+        CapturedStatement statement = STATEMENTS.stream()
+                .filter(captured -> captured.sql.stripLeading().toLowerCase().startsWith("select")
+                        && captured.sql.contains("app_users"))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("app_users 조회가 실행되지 않았습니다: " + STATEMENTS));
+
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + statement.toLiteralSql(), String.class);
+        try {
+            return OBJECT_MAPPER.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("실행 계획을 읽을 수 없습니다: " + json, e);
+        }
+    }
+
+    private static void assertNoFullScan(JsonNode plan) {
+        assertThat(nodeTypes(plan)).as(plan.toPrettyString()).doesNotContain("Seq Scan", "Bitmap Heap Scan");
+    }
+
+    private static void assertUsesIndex(JsonNode plan, String nodeType, String indexName) {
+        assertThat(nodes(plan)).as(plan.toPrettyString()).anySatisfy(node -> {
+            assertThat(node.path("Node Type").asText()).isEqualTo(nodeType);
+            assertThat(node.path("Index Name").asText()).isEqualTo(indexName);
+        });
+    }
+
+    private static List<String> nodeTypes(JsonNode plan) {
+        return nodes(plan).stream().map(node -> node.path("Node Type").asText()).toList();
+    }
+
+    private static List<JsonNode> nodes(JsonNode plan) {
+        List<JsonNode> nodes = new ArrayList<>();
+        nodes.add(plan);
+        for (JsonNode child : plan.path("Plans")) {
+            nodes.addAll(nodes(child));
+        }
+        return nodes;
+    }
+
+    /**
+     * 실행된 SQL과 바인딩 값
+     */
+    private static final class CapturedStatement {
+
+        private final String sql;
+        private final Map<Integer, Object> parameters = new HashMap<>();
+
+        private CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+        // ?를 순서대로 바인딩 값의 리터럴로 바꿈 (이 테스트의 쿼리에는 문자열 안의 ?가 없음)
+        String toLiteralSql() {
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+            for (char c : sql.toCharArray()) {
+                if (c == '?') {
+                    literal.append(toLiteral(parameters.get(++index)));
+                } else {
+                    literal.append(c);
+                }
+            }
+            return literal.toString();
+        }
+
+        private static String toLiteral(Object value) {
+            if (value == null) {
+                return "NULL";
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                return value.toString();
+            }
+            return "'" + value.toString().replace("'", "''") + "'";
+        }
+
+        @Override
+        public String toString() {
+            return sql;
+        }
+    }
+
+    /**
+     * 커넥션 풀을 감싸 PreparedStatement의 SQL과 바인딩 값을 기록
+     */
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor statementCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    private static final class CapturingDataSource extends DelegatingDataSource {
+
+        private CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capture(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capture(super.getConnection(username, password));
+        }
+
+        private static Connection capture(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            CapturedStatement captured = new CapturedStatement((String) args[0]);
+                            STATEMENTS.add(captured);
+                            return capture(statement, captured);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement capture(PreparedStatement statement, CapturedStatement captured) {
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer index) {
+                            captured.parameters.put(index, method.getName().equals("setNull") ? null : args[1]);
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.LLMInsurance_Backend.domain.repository;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 도입 전 Hibernate가 만든 prod 스키마에서 마이그레이션 확인
+ * prod와 같이 baseline-on-migrate(버전 0)로 V1부터 적용한 뒤 엔티티 검증(ddl-auto: validate)까지 통과해야 함
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class UserSchemaMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withInitScript("db/hibernate-baseline/app_users.sql");
+
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration/postgresql");
+        registry.add("spring.flyway.baseline-on-migrate", () -> "true");
+        registry.add("spring.flyway.baseline-version", () -> "0");
+    }
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 기존_사용자는_토큰_버전_0으로_인증_조회됨() {
+        assertThat(userRepository.findActiveAuthByUserId("legacy-user"))
+                .hasValueSatisfying(auth -> assertThat(auth.tokenVersion()).isZero())
+                .map(UserAuthProjection::password)
+                .hasValue("hash");
+        assertThat(userRepository.findActiveAuthByUserId("legacy-deleted")).isEmpty();
+    }
+
+    @Test
+    void 기준_버전부터_모든_마이그레이션을_적용함() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class))
+                .startsWith("0", "1", "2");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM flyway_schema_history WHERE NOT success", Integer.class)).isZero();
+    }
+
+    @Test
+    void 배열_컬럼을_text_배열로_바꾸고_user_id_제약은_커버링_인덱스로_대체함() {
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT udt_name FROM information_schema.columns WHERE table_name = 'app_users' "
+                        + "AND column_name IN ('diseases', 'subscriptions')", String.class))
+                .containsOnly("_text");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_constraint WHERE conrelid = 'app_users'::regclass AND contype = 'u'",
+                Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_indexes WHERE indexname = 'ux_app_users_user_id_auth'", Integer.class))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 이미_삭제된_사용자는_삭제_시각을_채움() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT deleted_at IS NOT NULL FROM app_users WHERE user_id = 'legacy-deleted'", Boolean.class))
+                .isTrue();
+    }
+}
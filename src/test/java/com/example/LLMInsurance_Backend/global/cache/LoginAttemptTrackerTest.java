@@ -0,0 +1,81 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.example.LLMInsurance_Backend.global.exception.LoginBlockedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class LoginAttemptTrackerTest {
+
+    private static final String IP = "203.0.113.10";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 사용자 기준 3회, IP 기준 5회, 대기 시간 60초부터 2배씩 최대 240초
+    private final LoginAttemptTracker tracker = new LoginAttemptTracker(meterRegistry, 3, 5, 60, 240, 3600, 1024);
+
+    @Test
+    void 기준_횟수_전까지는_허용하고_기준에_도달하면_차단() {
+        tracker.recordFailure("user1", IP);
+        tracker.recordFailure("user1", IP);
+        assertThatCode(() -> tracker.checkAllowed("user1", IP)).doesNotThrowAnyException();
+
+        tracker.recordFailure("user1", IP);
+
+        assertThat(retryAfter("user1", IP)).isBetween(59L, 60L);
+        assertThat(meterRegistry.get("login.attempts.blocked").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 기준_이후_실패마다_대기_시간이_2배로_늘고_최댓값에서_멈춤() {
+        for (int i = 0; i < 4; i++) {
+            tracker.recordFailure("user1", IP);
+        }
+        assertThat(retryAfter("user1", IP)).isBetween(119L, 120L);
+
+        tracker.recordFailure("user1", IP);
+        assertThat(retryAfter("user1", IP)).isBetween(239L, 240L);
+
+        tracker.recordFailure("user1", "198.51.100.1");
+        assertThat(retryAfter("user1", "198.51.100.1")).isBetween(239L, 240L);
+    }
+
+    @Test
+    void 같은_IP에서_여러_사용자로_실패해도_IP_기준에_도달하면_차단() {
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("user" + i, IP);
+        }
+
+        assertThat(retryAfter("newuser", IP)).isPositive();
+        assertThatCode(() -> tracker.checkAllowed("newuser", "198.51.100.1")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void 로그인에_성공하면_사용자_기록만_초기화하고_IP_기록은_유지() {
+        for (int i = 0; i < 3; i++) {
+            tracker.recordFailure("attacker", IP);
+        }
+        tracker.recordFailure("victim", IP);
+        tracker.recordFailure("victim", IP);
+
+        tracker.recordSuccess("attacker");
+
+        assertThatCode(() -> tracker.checkAllowed("attacker", "198.51.100.1")).doesNotThrowAnyException();
+        // 다른 사용자의 실패 기록은 그대로이므로 한 번 더 실패하면 차단
+        tracker.recordFailure("victim", "198.51.100.1");
+        assertThat(retryAfter("victim", "198.51.100.1")).isPositive();
+        // IP 기록(6회)은 초기화되지 않음
+        assertThat(retryAfter("someone", IP)).isPositive();
+    }
+
+    private long retryAfter(String userId, String clientIp) {
+        try {
+            tracker.checkAllowed(userId, clientIp);
+        } catch (LoginBlockedException e) {
+            return e.getRetryAfterSeconds();
+        }
+        throw new AssertionError("차단되지 않았습니다");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.LLMInsurance_Backend.global.cache;
+
+import com.example.LLMInsurance_Backend.global.cache.RecommendationCache.CachedRecommendation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 추정_크기는_고정_비용과_키_응답의_문자당_2바이트() {
+        CachedRecommendation recommendation = new CachedRecommendation("실손보험 추천", 10);
+
+        assertThat(recommendation.estimatedBytes("v1|30")).isEqualTo(96 + 2 * 5 + 2 * 7);
+        assertThat(new CachedRecommendation("", 0).estimatedBytes("")).isEqualTo(96);
+    }
+
+    @Test
+    void 저장된_응답의_추정_바이트_합계를_지표로_노출() throws InterruptedException {
+        RecommendationCache cache = new RecommendationCache(meterRegistry, 1_000_000, 60);
+
+        cache.put("key-a", "a".repeat(100), 10);
+        cache.put("key-b", "b".repeat(200), 20);
+
+        long expected = new CachedRecommendation("a".repeat(100), 10).estimatedBytes("key-a")
+                + new CachedRecommendation("b".repeat(200), 20).estimatedBytes("key-b");
+        awaitUntil(() -> cachedBytes() == expected);
+    }
+
+    @Test
+    void 최대_바이트를_넘으면_항목을_제거하여_한도_안으로_유지() throws InterruptedException {
+        int entryBytes = new CachedRecommendation("x".repeat(1_000), 10).estimatedBytes("key-0");
+        RecommendationCache cache = new RecommendationCache(meterRegistry, 3L * entryBytes, 60);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("key-" + i, "x".repeat(1_000), 10);
+        }
+
+        awaitUntil(() -> cachedBytes() <= 3L * entryBytes);
+        assertThat(cachedBytes()).isPositive();
+    }
+
+    @Test
+    void 한도보다_큰_응답은_보관하지_않음() throws InterruptedException {
+        RecommendationCache cache = new RecommendationCache(meterRegistry, 1_000, 60);
+
+        cache.put("huge", "x".repeat(1_000), 10);
+
+        awaitUntil(() -> cachedBytes() == 0);
+        assertThat(cache.get("huge")).isEmpty();
+    }
+
+    @Test
+    void 적중한_경우에만_절약한_토큰_수를_기록() {
+        RecommendationCache cache = new RecommendationCache(meterRegistry, 1_000_000, 60);
+        cache.put("key", "추천", 42);
+
+        assertThat(cache.get("key")).hasValueSatisfying(cached -> assertThat(cached.content()).isEqualTo("추천"));
+        assertThat(cache.get("missing")).isEmpty();
+
+        assertThat(meterRegistry.get("recommendation.cache.saved.tokens").counter().count()).isEqualTo(42);
+    }
+
+    private long cachedBytes() {
+        return (long) meterRegistry.get("recommendation.cache.bytes").gauge().value();
+    }
+
+    // Caffeine은 크기 계산과 제거를 비동기로 처리하므로 반영될 때까지 대기
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("캐시 크기가 기대한 값으로 바뀌지 않았습니다");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
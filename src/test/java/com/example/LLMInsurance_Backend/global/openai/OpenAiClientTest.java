@@ -0,0 +1,136 @@
+package com.example.LLMInsurance_Backend.global.openai;
+
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionChunk;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionRequest;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatCompletionResponse;
+import com.example.LLMInsurance_Backend.global.openai.dto.ChatMessage;
+import com.example.LLMInsurance_Backend.global.openai.dto.EmbeddingResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 서버를 상대로 OpenAI 클라이언트 검증 (외부 네트워크 사용 안 함)
+ */
+class OpenAiClientTest {
+
+    private static final List<ChatMessage> MESSAGES = List.of(ChatMessage.user("안녕하세요"));
+
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+
+    private DisposableServer server;
+    private ConnectionProvider connectionProvider;
+    private OpenAiClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .post("/v1/chat/completions", (request, response) -> request.receive().aggregate().asString()
+                                .flatMap(body -> {
+                                    lastAuthorization.set(request.requestHeaders().get("Authorization"));
+                                    lastBody.set(body);
+                                    if (body.contains("\"stream\":true")) {
+                                        return response.header("Content-Type", "text/event-stream")
+                                                .sendString(Flux.just(
+                                                        sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"}}]}"),
+                                                        sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"실손\"}}]}"),
+                                                        sse("{\"id\":\"c1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"보험\"},\"finish_reason\":\"stop\"}]}"),
+                                                        sse("{\"id\":\"c1\",\"choices\":[],\"usage\":{\"prompt_tokens\":10,\"completion_tokens\":2,\"total_tokens\":12}}"),
+                                                        sse("[DONE]")))
+                                                .then();
+                                    }
+                                    if (body.contains("error")) {
+                                        return response.status(429).sendString(Mono.just("{\"error\":{\"message\":\"rate limit\"}}")).then();
+                                    }
+                                    return response.header("Content-Type", "application/json")
+                                            .sendString(Mono.just("{\"id\":\"c2\",\"model\":\"gpt-test\",\"object\":\"chat.completion\","
+                                                    + "\"choices\":[{\"index\":0,\"message\":{\"role\":\"assistant\",\"content\":\"추천 결과\"},"
+                                                    + "\"finish_reason\":\"stop\"}],"
+                                                    + "\"usage\":{\"prompt_tokens\":5,\"completion_tokens\":3,\"total_tokens\":8}}"))
+                                            .then();
+                                }))
+                        .post("/v1/embeddings", (request, response) -> response.header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"model\":\"embed-test\",\"data\":[{\"index\":0,\"embedding\":[0.1,0.2]}],"
+                                        + "\"usage\":{\"prompt_tokens\":1,\"completion_tokens\":0,\"total_tokens\":1}}"))))
+                .bindNow();
+
+        OpenAiConfig config = new OpenAiConfig();
+        connectionProvider = config.openAiConnectionProvider(4, 10, 1000, 30, 300);
+        WebClient webClient = config.openAiWebClient(WebClient.builder(), connectionProvider,
+                "test-key", "http://localhost:" + server.port() + "/v1", 1000, 5);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        client = new OpenAiClient(webClient, objectMapper, "gpt-test", "embed-test", 5, 5, 5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    void 채팅_응답_조회() {
+        ChatCompletionResponse response = client.chatCompletion(ChatCompletionRequest.of(null, MESSAGES))
+                .block(Duration.ofSeconds(5));
+
+        assertThat(response).isNotNull();
+        assertThat(response.content()).isEqualTo("추천 결과");
+        assertThat(response.usage().totalTokens()).isEqualTo(8);
+        assertThat(lastAuthorization.get()).isEqualTo("Bearer test-key");
+        assertThat(lastBody.get()).contains("\"model\":\"gpt-test\"").doesNotContain("stream");
+    }
+
+    @Test
+    void 스트리밍_응답을_청크_단위로_수신() {
+        List<ChatCompletionChunk> chunks = client.streamChatCompletion(ChatCompletionRequest.of(null, MESSAGES))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks.stream().map(ChatCompletionChunk::contentDelta)).containsExactly("", "실손", "보험", "");
+        assertThat(chunks.get(3).usage().completionTokens()).isEqualTo(2);
+        assertThat(lastBody.get()).contains("\"include_usage\":true");
+    }
+
+    @Test
+    void 오류_응답은_상태_코드와_함께_예외로_변환() {
+        Mono<ChatCompletionResponse> call = client.chatCompletion(
+                ChatCompletionRequest.of(null, List.of(ChatMessage.user("error"))));
+
+        assertThatThrownBy(() -> call.block(Duration.ofSeconds(5)))
+                .isInstanceOf(OpenAiException.class)
+                .extracting(e -> ((OpenAiException) e).getStatusCode())
+                .isEqualTo(429);
+    }
+
+    @Test
+    void 임베딩_조회() {
+        EmbeddingResponse response = client.embeddings(List.of("당뇨")).block(Duration.ofSeconds(5));
+
+        assertThat(response).isNotNull();
+        assertThat(response.data()).hasSize(1);
+        assertThat(response.data().get(0).embedding()).containsExactly(0.1f, 0.2f);
+    }
+
+    private static String sse(String data) {
+        return "data: " + data + "\n\n";
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_있을_수도_있음으로_판단() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+        }
+        assertThat(filter.approximateSize()).isEqualTo(10_000);
+    }
+
+    @Test
+    void 설계_용량_안에서는_오탐률이_목표_근처() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i))
+                .count();
+        // 목표 1%에 여유를 둔 상한
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void 용량을_넘으면_예상_오탐률이_증가() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user" + i);
+        }
+        double atCapacity = filter.expectedFalsePositiveRate();
+
+        for (int i = 1_000; i < 3_000; i++) {
+            filter.put("user" + i);
+        }
+
+        assertThat(filter.approximateSize()).isGreaterThan(filter.expectedInsertions());
+        assertThat(filter.expectedFalsePositiveRate()).isGreaterThan(atCapacity);
+    }
+
+    @Test
+    void 빈_필터는_모두_없음으로_판단() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.mightContain("user0")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isZero();
+    }
+
+    @Test
+    void 여러_스레드에서_동시에_추가해도_누락되지_않음() {
+        BloomFilter filter = BloomFilter.create(40_000, 0.01);
+
+        CompletableFuture.allOf(IntStream.range(0, 4)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.put("t" + thread + "-" + i);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        for (int thread = 0; thread < 4; thread++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(filter.mightContain("t" + thread + "-" + i)).isTrue();
+            }
+        }
+        assertThat(filter.approximateSize()).isEqualTo(40_000);
+    }
+}
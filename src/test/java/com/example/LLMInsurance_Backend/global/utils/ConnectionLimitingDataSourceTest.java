@@ -0,0 +1,103 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    ConnectionLimitingDataSourceTest() throws SQLException {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    void 커넥션을_닫으면_허가를_한_번만_반환() throws SQLException {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10, 50);
+
+        Connection first = dataSource.getConnection();
+        first.close();
+        // 여러 번 닫아도 허가가 늘어나지 않음
+        first.close();
+
+        Connection second = dataSource.getConnection();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("대기 시간");
+        second.close();
+        dataSource.getConnection().close();
+    }
+
+    @Test
+    void 대기_인원이_가득_차면_기다리지_않고_거절() throws Exception {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 1, 5_000);
+        Connection held = dataSource.getConnection();
+
+        CompletableFuture<Connection> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        awaitWaitingCount(dataSource, 1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("대기 인원");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1_000);
+
+        // 앞 사용자가 반환하면 대기 중이던 스레드가 받음
+        held.close();
+        waiter.get(5, TimeUnit.SECONDS).close();
+        assertThat(dataSource.getWaitingCount()).isZero();
+    }
+
+    @Test
+    void 대기_시간을_넘으면_실패하고_대기_인원에서_빠짐() throws SQLException {
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10, 100);
+        Connection held = dataSource.getConnection();
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("대기 시간");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(100);
+        assertThat(dataSource.getWaitingCount()).isZero();
+
+        held.close();
+    }
+
+    @Test
+    void 커넥션_획득에_실패하면_허가를_반환() throws SQLException {
+        when(target.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenAnswer(invocation -> mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 10, 50);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("connection refused");
+        dataSource.getConnection().close();
+    }
+
+    private static void awaitWaitingCount(ConnectionLimitingDataSource dataSource, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dataSource.getWaitingCount() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기 스레드가 등록되지 않았습니다");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecayingCountMinSketchTest {
+
+    private final DecayingCountMinSketch sketch = new DecayingCountMinSketch(1024, 2, 3600);
+
+    @Test
+    void 키별_카운트_누적() {
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("u:attacker");
+        }
+        sketch.increment("u:other");
+
+        assertThat(sketch.estimate("u:attacker").count()).isEqualTo(5);
+        assertThat(sketch.estimate("u:other").count()).isEqualTo(1);
+        assertThat(sketch.estimate("u:unknown").count()).isZero();
+    }
+
+    @Test
+    void 초기화하면_카운트_제거() {
+        sketch.increment("u:tester");
+        sketch.increment("u:tester");
+
+        sketch.reset("u:tester");
+
+        assertThat(sketch.estimate("u:tester").count()).isZero();
+    }
+
+    @Test
+    void 초기화해도_슬롯을_공유하는_다른_키의_카운트는_유지() {
+        // 행당 슬롯 2개: 첫 번째 행의 슬롯만 공유하는 키를 찾음
+        DecayingCountMinSketch small = new DecayingCountMinSketch(2, 2, 3600);
+        String collider = IntStream.range(0, 1_000)
+                .mapToObj(i -> "u:other" + i)
+                .filter(key -> slot(key, 0) == slot("u:tester", 0) && slot(key, 1) != slot("u:tester", 1))
+                .findFirst()
+                .orElseThrow();
+        for (int i = 0; i < 3; i++) {
+            small.increment("u:tester");
+        }
+        small.increment(collider);
+        small.increment(collider);
+
+        small.reset("u:tester");
+
+        assertThat(small.estimate("u:tester").count()).isZero();
+        assertThat(small.estimate(collider).count()).isEqualTo(2);
+    }
+
+    // DecayingCountMinSketch의 행별 슬롯 위치 계산과 동일 (행당 슬롯 2개)
+    private static long slot(String key, int row) {
+        long hash1 = BloomFilter.hash(key);
+        return (hash1 + row * BloomFilter.mix(hash1)) & 1;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-testing-purposes-only";
+
+    private final JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 60_000L, 100L);
+
+    @Test
+    void 토큰_검증_후_사용자_ID_반환() {
+        String token = jwtTokenUtil.generateToken("tester01");
+
+        Optional<VerifiedToken> verified = jwtTokenUtil.verifyToken(token);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().subject()).isEqualTo("tester01");
+        assertThat(verified.get().expiration()).isAfter(verified.get().issuedAt());
+    }
+
+    @Test
+    void 인증용_클레임_포함() {
+        String token = jwtTokenUtil.generateToken("tester06", true, 3);
+
+        VerifiedToken verified = jwtTokenUtil.verifyToken(token).orElseThrow();
+
+        assertThat(verified.deleted()).isTrue();
+        assertThat(verified.tokenVersion()).isEqualTo(3);
+    }
+
+    @Test
+    void 같은_토큰은_캐시된_결과_재사용() {
+        String token = jwtTokenUtil.generateToken("tester02");
+
+        VerifiedToken first = jwtTokenUtil.verifyToken(token).orElseThrow();
+        VerifiedToken second = jwtTokenUtil.verifyToken(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 본문이_변조된_토큰은_거부() {
+        String token = jwtTokenUtil.generateToken("tester03");
+        String other = jwtTokenUtil.generateToken("tester04");
+        jwtTokenUtil.verifyToken(token);
+
+        // 캐시된 서명에 다른 본문을 붙인 토큰
+        String signature = token.substring(token.lastIndexOf('.'));
+        String forged = other.substring(0, other.lastIndexOf('.')) + signature;
+
+        assertThat(jwtTokenUtil.verifyToken(forged)).isEmpty();
+    }
+
+    @Test
+    void 만료된_토큰은_거부() {
+        JwtTokenUtil expiredTokenUtil = new JwtTokenUtil(SECRET, -1_000L, 100L);
+        String token = expiredTokenUtil.generateToken("tester05");
+
+        assertThat(expiredTokenUtil.verifyToken(token)).isEmpty();
+        assertThat(expiredTokenUtil.validateToken(token)).isFalse();
+    }
+}
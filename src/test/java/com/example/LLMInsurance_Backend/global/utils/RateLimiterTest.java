@@ -0,0 +1,86 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(SECOND);
+    private final RateLimiter rateLimiter = new RateLimiter(1_000, Duration.ofMinutes(10), clock::get);
+
+    @Test
+    void 용량만큼_연속_요청을_허용하고_남은_횟수를_줄여감() {
+        for (long expectedRemaining = 2; expectedRemaining >= 0; expectedRemaining--) {
+            RateLimiter.Decision decision = rateLimiter.tryAcquire("key", 3, 1);
+
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.limit()).isEqualTo(3);
+            assertThat(decision.remaining()).isEqualTo(expectedRemaining);
+        }
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire("key", 3, 1);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(rejected.resetSeconds()).isEqualTo(3);
+    }
+
+    @Test
+    void 거절된_요청은_토큰을_소비하지_않음() {
+        drain("key", 3);
+        for (int i = 0; i < 10; i++) {
+            assertThat(rateLimiter.tryAcquire("key", 3, 1).allowed()).isFalse();
+        }
+
+        clock.addAndGet(SECOND);
+        assertThat(rateLimiter.tryAcquire("key", 3, 1).allowed()).isTrue();
+    }
+
+    @Test
+    void 충전_주기마다_한_번씩_다시_허용() {
+        drain("key", 3);
+
+        clock.addAndGet(SECOND / 2);
+        RateLimiter.Decision early = rateLimiter.tryAcquire("key", 3, 1);
+        assertThat(early.allowed()).isFalse();
+        assertThat(early.retryAfterSeconds()).isEqualTo(1);
+
+        clock.addAndGet(SECOND / 2);
+        RateLimiter.Decision refilled = rateLimiter.tryAcquire("key", 3, 1);
+        assertThat(refilled.allowed()).isTrue();
+        assertThat(refilled.remaining()).isZero();
+        assertThat(rateLimiter.tryAcquire("key", 3, 1).allowed()).isFalse();
+    }
+
+    @Test
+    void 오래_쉬어도_용량_이상으로는_쌓이지_않음() {
+        drain("key", 3);
+
+        clock.addAndGet(60 * SECOND);
+
+        assertThat(rateLimiter.tryAcquire("key", 3, 1).remaining()).isEqualTo(2);
+        drain("key", 2);
+        assertThat(rateLimiter.tryAcquire("key", 3, 1).allowed()).isFalse();
+    }
+
+    @Test
+    void 키별로_따로_제한() {
+        drain("a", 3);
+
+        assertThat(rateLimiter.tryAcquire("a", 3, 1).allowed()).isFalse();
+        assertThat(rateLimiter.tryAcquire("b", 3, 1).remaining()).isEqualTo(2);
+    }
+
+    private void drain(String key, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(rateLimiter.tryAcquire(key, 3, 1).allowed()).isTrue();
+        }
+    }
+}
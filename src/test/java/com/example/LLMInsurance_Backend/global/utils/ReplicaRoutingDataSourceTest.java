@@ -0,0 +1,143 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB와 복제본 역할의 PostgreSQL 컨테이너 두 개로 라우팅 확인 (실제 복제 대신 각 DB에 표식 행을 둠)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReplicaRoutingDataSourceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> PRIMARY = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Container
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static HikariDataSource primaryPool;
+    private static HikariDataSource replicaPool;
+
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeAll
+    static void createPools() {
+        primaryPool = pool(PRIMARY, "primary");
+        replicaPool = pool(REPLICA, "replica");
+    }
+
+    @AfterAll
+    static void closePools() {
+        primaryPool.close();
+        replicaPool.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicaPool, 1000, meterRegistry);
+        readYourWritesTracker = new ReadYourWritesTracker(true, 60_000, 100);
+        DataSource routing = new ReplicaRoutingDataSource(
+                primaryPool, replicaPool, lagMonitor, readYourWritesTracker, meterRegistry).toLazyProxy();
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_복제본_나머지는_주_DB() {
+        lagMonitor.check();
+
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> currentServer())).isEqualTo("primary");
+        // 트랜잭션 밖의 조회도 주 DB
+        assertThat(currentServer()).isEqualTo("primary");
+    }
+
+    @Test
+    void 복제본_상태를_확인하기_전이나_지연이_크면_주_DB() {
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("primary");
+
+        lagMonitor.check();
+        assertThat(lagMonitor.lagMillis()).isZero();
+        lagMonitor.recordLag(5_000);
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("primary");
+
+        lagMonitor.recordLag(0);
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("replica");
+    }
+
+    @Test
+    void 방금_변경한_사용자는_주_DB에서_읽음() {
+        lagMonitor.check();
+        readYourWritesTracker.markWritten("writer");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("writer", null, List.of()));
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("primary");
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("reader", null, List.of()));
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("replica");
+
+    }
+
+    @Test
+    void 주_DB로_지정한_조회는_복제본이_정상이어도_주_DB에서_읽음() {
+        lagMonitor.check();
+
+        assertThat(readYourWritesTracker.onPrimary(
+                () -> readOnlyTransaction.execute(status -> currentServer()))).isEqualTo("primary");
+        assertThat(readOnlyTransaction.execute(status -> currentServer())).isEqualTo("replica");
+    }
+
+    private String currentServer() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server_role", String.class);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer<?> container, String role) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        dataSource.setPoolName(role);
+        dataSource.setMaximumPoolSize(2);
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS server_role (name text)");
+        jdbcTemplate.update("DELETE FROM server_role");
+        jdbcTemplate.update("INSERT INTO server_role (name) VALUES (?)", role);
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final List<SingleFlight.Outcome> outcomes = new CopyOnWriteArrayList<>();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(2, outcomes::add);
+
+    @Test
+    void 같은_키의_동시_요청은_하나의_호출을_공유() {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.Many<String> upstream = Sinks.many().unicast().onBackpressureBuffer();
+        Flux<String> call = Flux.defer(() -> {
+            calls.incrementAndGet();
+            return upstream.asFlux();
+        });
+
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe(first::add);
+        upstream.tryEmitNext("a");
+        // 늦게 합류해도 처음부터 받음
+        singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe(second::add);
+        upstream.tryEmitNext("b");
+        upstream.tryEmitComplete();
+
+        assertThat(calls).hasValue(1);
+        assertThat(first).containsExactly("a", "b");
+        assertThat(second).containsExactly("a", "b");
+        assertThat(outcomes).containsExactly(SingleFlight.Outcome.LEADER, SingleFlight.Outcome.JOINED);
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void 모든_구독자가_떠나면_상위_호출_취소() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flux<String> call = Flux.<String>never().doOnCancel(() -> cancelled.set(true));
+
+        Disposable first = singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe();
+        Disposable second = singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe();
+
+        first.dispose();
+        assertThat(cancelled).isFalse();
+        second.dispose();
+        assertThat(cancelled).isTrue();
+        assertThat(singleFlight.inFlight()).isZero();
+    }
+
+    @Test
+    void 합류_인원을_넘으면_거절() {
+        Flux<String> call = Flux.never();
+        singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe();
+        singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        singleFlight.execute("key", () -> call, IllegalStateException::new).subscribe(value -> { }, error::set);
+
+        assertThat(error.get()).isInstanceOf(IllegalStateException.class);
+        assertThat(outcomes).contains(SingleFlight.Outcome.REJECTED);
+    }
+}
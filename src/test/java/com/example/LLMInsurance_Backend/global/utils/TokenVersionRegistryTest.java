@@ -0,0 +1,67 @@
+package com.example.LLMInsurance_Backend.global.utils;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserAuthProjection;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.global.cache.ReadYourWritesTracker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenVersionRegistryTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenVersionRegistry registry = new TokenVersionRegistry(userRepository,
+            new ReadYourWritesTracker(false, 5000, 100), new SimpleMeterRegistry(), 100, 60);
+
+    @Test
+    void 없는_사용자_조회는_캐시하지_않아_이후_가입한_사용자의_토큰을_받음() {
+        when(userRepository.findActiveAuthByUserId("user1"))
+                .thenReturn(Optional.empty(), Optional.of(auth("user1", 0)));
+        when(userRepository.existsByUserId("user1")).thenReturn(false);
+
+        assertThat(registry.isStale("user1", 0)).isTrue();
+
+        assertThat(registry.refresh("user1")).hasValue(0);
+        assertThat(registry.isStale("user1", 0)).isFalse();
+    }
+
+    @Test
+    void 없는_사용자_조회_후_로그인에서_읽은_버전을_반영() {
+        when(userRepository.findActiveAuthByUserId("user1")).thenReturn(Optional.empty());
+        when(userRepository.existsByUserId("user1")).thenReturn(false);
+        assertThat(registry.isStale("user1", 0)).isTrue();
+
+        registry.update("user1", 0);
+
+        assertThat(registry.isStale("user1", 0)).isFalse();
+    }
+
+    @Test
+    void 삭제된_사용자는_이후_갱신과_관계없이_폐기() {
+        when(userRepository.findActiveAuthByUserId("user1")).thenReturn(Optional.empty());
+        when(userRepository.existsByUserId("user1")).thenReturn(true);
+        assertThat(registry.isStale("user1", 0)).isTrue();
+
+        registry.update("user1", 0);
+
+        assertThat(registry.isStale("user1", 0)).isTrue();
+    }
+
+    @Test
+    void 더_낮은_버전으로_덮어쓰지_않음() {
+        registry.update("user1", 3);
+        registry.update("user1", 1);
+
+        assertThat(registry.isStale("user1", 2)).isTrue();
+        assertThat(registry.isStale("user1", 3)).isFalse();
+    }
+
+    private static UserAuthProjection auth(String userId, int tokenVersion) {
+        return new UserAuthProjection(userId, "hash", tokenVersion);
+    }
+}
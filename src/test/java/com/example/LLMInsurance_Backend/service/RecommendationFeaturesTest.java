@@ -0,0 +1,78 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.projection.UserSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationFeaturesTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 6, 15);
+
+    @Test
+    void 나이는_만_나이_기준_10세_단위로_묶음() {
+        assertThat(features(LocalDate.of(1986, 6, 16)).ageBand()).isEqualTo(30); // 생일 전날, 만 39세
+        assertThat(features(LocalDate.of(1986, 6, 15)).ageBand()).isEqualTo(40); // 생일 당일, 만 40세
+        assertThat(features(LocalDate.of(1996, 1, 1)).ageBand()).isEqualTo(30);
+        assertThat(features(LocalDate.of(2020, 1, 1)).ageBand()).isZero();
+        // 잘못 입력된 미래 생년월일도 음수 구간이 되지 않음
+        assertThat(features(LocalDate.of(2030, 1, 1)).ageBand()).isZero();
+    }
+
+    @Test
+    void 같은_구간의_나이는_같은_캐시_키() {
+        assertThat(features(LocalDate.of(1987, 1, 1)).cacheKey("v1"))
+                .isEqualTo(features(LocalDate.of(1996, 6, 15)).cacheKey("v1"));
+        assertThat(features(LocalDate.of(1986, 6, 15)).cacheKey("v1"))
+                .isNotEqualTo(features(LocalDate.of(1986, 6, 16)).cacheKey("v1"));
+    }
+
+    @Test
+    void 공백_대소문자_순서_중복만_다른_프로필은_같은_캐시_키() {
+        UserSnapshot original = user("남", false, "개발자", new String[]{"당뇨", "고혈압"}, new String[]{"실손보험"});
+        UserSnapshot equivalent = user("남", false, "  개발자 ", new String[]{"고혈압", " 당뇨", "당뇨", ""},
+                new String[]{"실손보험"});
+
+        assertThat(RecommendationFeatures.from(equivalent, TODAY).cacheKey("v1"))
+                .isEqualTo(RecommendationFeatures.from(original, TODAY).cacheKey("v1"));
+        assertThat(RecommendationFeatures.from(user("남", false, "Software  Engineer", null, null), TODAY).cacheKey("v1"))
+                .isEqualTo(RecommendationFeatures.from(user("남", false, "software engineer", new String[]{}, new String[]{}), TODAY)
+                        .cacheKey("v1"));
+    }
+
+    @Test
+    void 추천에_영향을_주는_특성이_다르면_다른_캐시_키() {
+        String key = RecommendationFeatures.from(user("남", false, "개발자", null, null), TODAY).cacheKey("v1");
+
+        assertThat(RecommendationFeatures.from(user("여", false, "개발자", null, null), TODAY).cacheKey("v1")).isNotEqualTo(key);
+        assertThat(RecommendationFeatures.from(user("남", true, "개발자", null, null), TODAY).cacheKey("v1")).isNotEqualTo(key);
+        assertThat(RecommendationFeatures.from(user("남", false, "교사", null, null), TODAY).cacheKey("v1")).isNotEqualTo(key);
+        assertThat(RecommendationFeatures.from(user("남", false, "개발자", new String[]{"당뇨"}, null), TODAY).cacheKey("v1"))
+                .isNotEqualTo(key);
+        // 질환과 가입 상품은 같은 값이어도 구분
+        assertThat(RecommendationFeatures.from(user("남", false, "개발자", new String[]{"암"}, null), TODAY).cacheKey("v1"))
+                .isNotEqualTo(RecommendationFeatures.from(user("남", false, "개발자", null, new String[]{"암"}), TODAY).cacheKey("v1"));
+    }
+
+    @Test
+    void 프롬프트_버전을_올리면_이전_캐시_키와_겹치지_않음() {
+        RecommendationFeatures features = features(LocalDate.of(1990, 1, 1));
+
+        assertThat(features.cacheKey("v2")).isNotEqualTo(features.cacheKey("v1"));
+        assertThat(features.cacheKey(RecommendationPromptBuilder.PROMPT_VERSION))
+                .startsWith(RecommendationPromptBuilder.PROMPT_VERSION + "|");
+    }
+
+    private static RecommendationFeatures features(LocalDate birthDate) {
+        return RecommendationFeatures.from(new UserSnapshot("user1", "hash", "user1@example.com", "테스트",
+                "010-0000-0000", birthDate, "남", false, "개발자", null, null, false), TODAY);
+    }
+
+    private static UserSnapshot user(String gender, boolean married, String job,
+                                     String[] diseases, String[] subscriptions) {
+        return new UserSnapshot("user1", "hash", "user1@example.com", "테스트", "010-0000-0000",
+                LocalDate.of(1990, 1, 1), gender, married, job, diseases, subscriptions, false);
+    }
+}
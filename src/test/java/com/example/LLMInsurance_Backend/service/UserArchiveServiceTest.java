@@ -0,0 +1,120 @@
+package com.example.LLMInsurance_Backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 삭제된 사용자 보관 이동 확인 (Flyway 마이그레이션으로 만든 PostgreSQL 스키마 기준)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class UserArchiveServiceTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/postgresql")
+                .load()
+                .migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM app_users");
+        jdbcTemplate.update("DELETE FROM app_users_archive");
+    }
+
+    @Test
+    void 보관_기간이_지난_삭제된_사용자만_옮긴다() {
+        insertUser("active", false, null);
+        insertUser("recentlyDeleted", true, 10);
+        insertUser("longDeleted", true, 100);
+
+        int moved = service(1000).archiveDeletedUsers();
+
+        assertThat(moved).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM app_users ORDER BY user_id", String.class))
+                .containsExactly("active", "recentlyDeleted");
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM app_users_archive", String.class))
+                .containsExactly("longDeleted");
+    }
+
+    @Test
+    void 배치_크기를_넘으면_여러_배치로_나누어_모두_옮긴다() {
+        for (int i = 0; i < 5; i++) {
+            insertUser("deleted" + i, true, 100 + i);
+        }
+
+        int moved = service(2).archiveDeletedUsers();
+
+        assertThat(moved).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_users", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM app_users_archive", Integer.class)).isEqualTo(5);
+    }
+
+    @Test
+    void 삭제로_바꾸면_트리거가_삭제_시각을_기록하고_복구하면_지운다() {
+        insertUser("user1", false, null);
+
+        jdbcTemplate.update("UPDATE app_users SET is_deleted = true WHERE user_id = 'user1'");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT deleted_at > now() - INTERVAL '1 minute' FROM app_users WHERE user_id = 'user1'", Boolean.class))
+                .isTrue();
+
+        jdbcTemplate.update("UPDATE app_users SET is_deleted = false WHERE user_id = 'user1'");
+        assertThat(deletedAt("user1")).isNull();
+    }
+
+    @Test
+    void 삭제_시각_없이_삭제된_상태로_추가해도_삭제_시각을_기록한다() {
+        insertUser("user1", true, null);
+
+        assertThat(deletedAt("user1")).isNotNull();
+    }
+
+    @Test
+    void 이미_삭제된_사용자를_삭제_시각_없이_다시_저장해도_기존_삭제_시각을_유지한다() {
+        insertUser("longDeleted", true, 100);
+
+        // 삭제 전에 읽은 엔티티를 저장하는 경우처럼 모든 컬럼을 다시 씀
+        jdbcTemplate.update("UPDATE app_users SET is_deleted = true, deleted_at = NULL, modified_at = now() "
+                + "WHERE user_id = 'longDeleted'");
+
+        assertThat(service(1000).archiveDeletedUsers()).isEqualTo(1);
+    }
+
+    private static Object deletedAt(String userId) {
+        return jdbcTemplate.queryForObject("SELECT deleted_at FROM app_users WHERE user_id = ?", Object.class, userId);
+    }
+
+    private static UserArchiveService service(int batchSize) {
+        return new UserArchiveService(jdbcTemplate, new SimpleMeterRegistry(), true, 90, batchSize, 100);
+    }
+
+    private static void insertUser(String userId, boolean deleted, Integer deletedDaysAgo) {
+        jdbcTemplate.update("INSERT INTO app_users (uuid, user_id, password, email, name, phone_number, birth_date, "
+                        + "gender, is_married, job, created_at, modified_at, is_deleted, deleted_at) "
+                        + "VALUES (gen_random_uuid(), ?, 'hash', 'test@example.com', '테스트', '010-0000-0000', "
+                        + "DATE '1990-01-01', '남', false, '개발자', now(), now(), ?, "
+                        + "CASE WHEN ?::int IS NULL THEN NULL ELSE now() - ?::int * INTERVAL '1 day' END)",
+                userId, deleted, deletedDaysAgo, deletedDaysAgo);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.LLMInsurance_Backend.service;
+
+import com.example.LLMInsurance_Backend.domain.dto.response.UserImportResponseDto;
+import com.example.LLMInsurance_Backend.domain.repository.UserRepository;
+import com.example.LLMInsurance_Backend.global.cache.UserIdMembershipIndex;
+import com.example.LLMInsurance_Backend.service.UserImportService.ImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 업로드 파싱, 파일 내 중복 제거, 배치 실패 시 행 단위 재시도 확인 (H2 메모리 DB)
+ */
+class UserImportServiceTest {
+
+    private static final String CSV_HEADER =
+            "userId,password,email,name,phoneNumber,birthDate,gender,isMarried,job,diseases,subscriptions";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+    private final UserIdMembershipIndex userIdMembershipIndex = mock(UserIdMembershipIndex.class);
+
+    private JdbcTemplate jdbcTemplate;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:user-import;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE app_users (uuid UUID PRIMARY KEY, user_id VARCHAR(255) NOT NULL UNIQUE, "
+                + "password VARCHAR(255), email VARCHAR(255), name VARCHAR(255), phone_number VARCHAR(255), "
+                + "birth_date DATE, gender VARCHAR(255), is_married BOOLEAN, job VARCHAR(255), "
+                + "diseases VARCHAR(255) ARRAY, subscriptions VARCHAR(255) ARRAY, "
+                + "created_at TIMESTAMP, modified_at TIMESTAMP, is_login BOOLEAN, is_deleted BOOLEAN, "
+                + "token_version INT)");
+
+        // 기본은 DB 조회 결과를 그대로 사용
+        when(userRepository.findExistingUserIds(anyCollection())).thenAnswer(invocation -> existingUserIds(
+                invocation.getArgument(0)));
+        when(passwordHashingService.encodeAll(anyList())).thenAnswer(invocation -> {
+            List<String> rawPasswords = invocation.getArgument(0);
+            return rawPasswords.stream().map(raw -> "hash-" + raw).toList();
+        });
+
+        userImportService = new UserImportService(userRepository, passwordHashingService, userIdMembershipIndex,
+                jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                List.of("admin"), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE app_users");
+    }
+
+    @Test
+    void CSV_따옴표_안의_쉼표와_이스케이프된_따옴표를_값으로_읽음() {
+        assertThat(UserImportService.parseCsvLine("a,\"b,c\",\"say \"\"hi\"\"\",,d"))
+                .containsExactly("a", "b,c", "say \"hi\"", "", "d");
+        assertThat(UserImportService.parseCsvLine("")).containsExactly("");
+    }
+
+    @Test
+    void CSV_닫히지_않은_따옴표는_오류() {
+        assertThatThrownBy(() -> UserImportService.parseCsvLine("a,\"b,c"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void BOM과_헤더가_있는_CSV를_가입시키고_배열_컬럼을_나눔() {
+        String csv = "\uFEFF" + CSV_HEADER + "\n"
+                + csvRow("user_a", "\"고혈압|당뇨\"") + "\n"
+                + "\n"
+                + csvRow("user_b", "") + "\n";
+
+        UserImportResponseDto result = importUsers(csv, ImportFormat.CSV);
+
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT password FROM app_users WHERE user_id = 'user_a'", String.class)).isEqualTo("hash-password1");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT CARDINALITY(diseases) FROM app_users WHERE user_id = 'user_a'", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void NDJSON_형식_오류와_검증_오류는_해당_행만_실패() {
+        String ndjson = jsonRow("user_a") + "\n"
+                + "{not json\n"
+                + jsonRow("x") + "\n";
+
+        UserImportResponseDto result = importUsers(ndjson, ImportFormat.NDJSON);
+
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getFailedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(UserImportResponseDto.RowError::getLine).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void 같은_chunk_안의_중복_ID는_처음_행만_가입() {
+        String ndjson = jsonRow("user_a") + "\n" + jsonRow("user_a") + "\n";
+
+        UserImportResponseDto result = importUsers(ndjson, ImportFormat.NDJSON);
+
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLine()).isEqualTo(2);
+                    assertThat(error.getMessage()).contains("파일 내에 중복");
+                });
+    }
+
+    @Test
+    void 이전_chunk에서_가입한_ID는_DB_조회로_걸러짐() {
+        // chunk 크기 2: 세 번째 행은 다음 chunk에서 처리
+        String ndjson = jsonRow("user_a") + "\n" + jsonRow("user_b") + "\n" + jsonRow("user_a") + "\n";
+        List<UserImportResponseDto> progress = new ArrayList<>();
+
+        UserImportResponseDto result = userImportService.importUsers(stream(ndjson), ImportFormat.NDJSON, progress::add);
+
+        assertThat(result.getImportedCount()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getMessage()).contains("이미 사용 중"));
+        assertThat(progress).singleElement()
+                .satisfies(report -> assertThat(report.getImportedCount()).isEqualTo(2));
+    }
+
+    @Test
+    void 조회_후_다른_요청이_먼저_가입하면_행_단위로_재시도하여_나머지를_가입() {
+        // 중복 확인 조회 이후 같은 ID가 가입된 상황
+        when(userRepository.findExistingUserIds(anyCollection())).thenReturn(List.of());
+        importUsers(jsonRow("user_b") + "\n", ImportFormat.NDJSON);
+
+        UserImportResponseDto result = importUsers(jsonRow("user_a") + "\n" + jsonRow("user_b") + "\n",
+                ImportFormat.NDJSON);
+
+        assertThat(result.getImportedCount()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getUserId()).isEqualTo("user_b"));
+        assertThat(jdbcTemplate.queryForList("SELECT user_id FROM app_users ORDER BY user_id", String.class))
+                .containsExactly("user_a", "user_b");
+    }
+
+    private UserImportResponseDto importUsers(String body, ImportFormat format) {
+        return userImportService.importUsers(stream(body), format, progress -> {
+        });
+    }
+
+    private List<String> existingUserIds(Collection<String> userIds) {
+        return jdbcTemplate.queryForList("SELECT user_id FROM app_users", String.class).stream()
+                .filter(userIds::contains)
+                .toList();
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String csvRow(String userId, String diseases) {
+        return userId + ",password1,test@example.com,테스트,010-1234-5678,1990-01-01,남,false,개발자," + diseases + ",";
+    }
+
+    private static String jsonRow(String userId) {
+        return "{\"userId\":\"" + userId + "\",\"password\":\"password1\",\"email\":\"test@example.com\","
+                + "\"name\":\"테스트\",\"phoneNumber\":\"010-1234-5678\",\"birthDate\":\"1990-01-01\","
+                + "\"gender\":\"남\",\"isMarried\":false,\"job\":\"개발자\"}";
+    }
+}
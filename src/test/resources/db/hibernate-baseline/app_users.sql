@@ -0,0 +1,32 @@
+-- Flyway 도입 전 prod 스키마: 기준 커밋의 User 엔티티로 Hibernate(ddl-auto: create)가 만든 테이블
+-- token_version, deleted_at 컬럼이 없고, 배열은 varchar(255) array, user_id 유일 제약은 Hibernate가 지은 이름을 사용
+create table app_users (
+    is_deleted boolean default false not null,
+    is_login boolean default false not null,
+    is_married boolean not null,
+    birth_date date not null,
+    created_at timestamp(6) not null,
+    modified_at timestamp(6) not null,
+    uuid uuid not null,
+    diseases varchar(255) array,
+    email varchar(255) not null,
+    gender varchar(255) not null,
+    job varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    phone_number varchar(255) not null,
+    subscriptions varchar(255) array,
+    user_id varchar(255) not null,
+    primary key (uuid)
+);
+
+alter table if exists app_users
+    add constraint uk_hibernate_generated_user_id unique (user_id);
+
+-- 마이그레이션 전부터 있던 사용자
+insert into app_users (uuid, user_id, password, email, name, phone_number, birth_date, gender, is_married, job,
+                       diseases, subscriptions, created_at, modified_at, is_login, is_deleted)
+values ('00000000-0000-0000-0000-000000000001', 'legacy-user', 'hash', 'legacy@example.com', '기존 사용자',
+        '010-0000-0000', date '1990-01-01', '남', false, '개발자', array ['당뇨'], null, now(), now(), false, false),
+       ('00000000-0000-0000-0000-000000000002', 'legacy-deleted', 'hash', 'deleted@example.com', '삭제된 사용자',
+        '010-0000-0000', date '1990-01-01', '여', true, '교사', null, null, now(), now(), false, true);